@@ -0,0 +1,12 @@
+package dev.ivanhernandez.authservice.application.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+public record JwksResponse(
+        List<Map<String, Object>> keys
+) {
+    public static JwksResponse of(List<Map<String, Object>> keys) {
+        return new JwksResponse(List.copyOf(keys));
+    }
+}
@@ -2,12 +2,14 @@ package dev.ivanhernandez.authservice.application.dto.response;
 
 public record TokenResponse(
         String accessToken,
+        String refreshToken,
         String tokenType,
         long expiresIn
 ) {
-    public static TokenResponse of(String accessToken, long expiresInMs) {
+    public static TokenResponse of(String accessToken, String refreshToken, long expiresInMs) {
         return new TokenResponse(
                 accessToken,
+                refreshToken,
                 "Bearer",
                 expiresInMs / 1000
         );
@@ -1,5 +1,6 @@
 package dev.ivanhernandez.authservice.application.dto.response;
 
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
 import dev.ivanhernandez.authservice.domain.model.Role;
 import dev.ivanhernandez.authservice.domain.model.User;
 
@@ -31,4 +32,18 @@ public record UserProfileResponse(
                 user.getCreatedAt()
         );
     }
+
+    public static UserProfileResponse fromPrincipal(AuthPrincipal principal) {
+        return new UserProfileResponse(
+                principal.userId(),
+                principal.email(),
+                principal.firstName(),
+                principal.lastName(),
+                principal.tenantSlug(),
+                principal.tenantName(),
+                principal.roles().stream().map(Role::name).toList(),
+                principal.emailVerified(),
+                principal.createdAt()
+        );
+    }
 }
@@ -0,0 +1,25 @@
+package dev.ivanhernandez.authservice.application.dto.response;
+
+import dev.ivanhernandez.authservice.domain.model.Tenant;
+import dev.ivanhernandez.authservice.domain.model.User;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+public record UserProfileSnapshot(
+        UserProfileResponse profile,
+        String etag
+) {
+    public static UserProfileSnapshot fromDomain(User user) {
+        return new UserProfileSnapshot(UserProfileResponse.fromDomain(user), etagOf(user));
+    }
+
+    static String etagOf(User user) {
+        LocalDateTime updatedAt = user.getUpdatedAt();
+        long micros = updatedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + updatedAt.getNano() / 1_000;
+        Tenant tenant = user.getTenant();
+        int tenantHash = Objects.hash(tenant.getSlug(), tenant.getName());
+        return "\"" + user.getId() + "-" + Long.toHexString(micros) + "-" + Integer.toHexString(tenantHash) + "\"";
+    }
+}
@@ -0,0 +1,8 @@
+package dev.ivanhernandez.authservice.application.port.input;
+
+import dev.ivanhernandez.authservice.application.dto.response.JwksResponse;
+
+public interface GetJwksUseCase {
+
+    JwksResponse getJwks();
+}
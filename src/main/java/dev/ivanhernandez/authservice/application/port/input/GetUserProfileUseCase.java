@@ -1,10 +1,13 @@
 package dev.ivanhernandez.authservice.application.port.input;
 
 import dev.ivanhernandez.authservice.application.dto.response.UserProfileResponse;
+import dev.ivanhernandez.authservice.application.dto.response.UserProfileSnapshot;
 
 import java.util.UUID;
 
 public interface GetUserProfileUseCase {
 
     UserProfileResponse getProfile(UUID userId);
+
+    UserProfileSnapshot getProfileSnapshot(UUID userId);
 }
@@ -0,0 +1,10 @@
+package dev.ivanhernandez.authservice.application.port.output;
+
+import java.util.function.Consumer;
+
+public interface CacheInvalidationBus {
+
+    void publish(String cache, String key);
+
+    void subscribe(String cache, Consumer<String> listener);
+}
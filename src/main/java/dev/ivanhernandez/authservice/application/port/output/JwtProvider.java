@@ -1,26 +1,22 @@
 package dev.ivanhernandez.authservice.application.port.output;
 
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
 import dev.ivanhernandez.authservice.domain.model.User;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface JwtProvider {
 
     String generateAccessToken(User user);
 
-    String getUserIdFromToken(String token);
+    String generateAccessToken(AuthPrincipal principal);
 
-    String getTenantIdFromToken(String token);
-
-    String getTenantSlugFromToken(String token);
-
-    String getEmailFromToken(String token);
-
-    List<String> getRolesFromToken(String token);
-
-    boolean validateToken(String token);
+    Optional<AccessTokenClaims> parseAccessToken(String token);
 
     long getAccessTokenExpirationMs();
 
-    long getRemainingExpirationSeconds(String token);
+    List<Map<String, Object>> getPublicJwks();
 }
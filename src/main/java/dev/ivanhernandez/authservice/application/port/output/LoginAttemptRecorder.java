@@ -0,0 +1,8 @@
+package dev.ivanhernandez.authservice.application.port.output;
+
+import dev.ivanhernandez.authservice.domain.model.LoginAttempt;
+
+public interface LoginAttemptRecorder {
+
+    void record(LoginAttempt attempt);
+}
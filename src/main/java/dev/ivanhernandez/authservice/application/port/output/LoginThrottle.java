@@ -0,0 +1,12 @@
+package dev.ivanhernandez.authservice.application.port.output;
+
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+
+public interface LoginThrottle {
+
+    RateLimitDecision check(String tenantSlug, String email, String ipAddress);
+
+    void recordFailure(String tenantSlug, String email, String ipAddress);
+
+    void recordSuccess(String tenantSlug, String email);
+}
@@ -1,8 +1,22 @@
 package dev.ivanhernandez.authservice.application.port.output;
 
+import java.util.UUID;
+
 public interface PasswordEncoder {
 
     String encode(String rawPassword);
 
     boolean matches(String rawPassword, String encodedPassword);
+
+    default String encode(UUID tenantId, String rawPassword) {
+        return encode(rawPassword);
+    }
+
+    default boolean matches(UUID tenantId, String rawPassword, String encodedPassword) {
+        return matches(rawPassword, encodedPassword);
+    }
+
+    default boolean needsRehash(UUID tenantId, String encodedPassword) {
+        return false;
+    }
 }
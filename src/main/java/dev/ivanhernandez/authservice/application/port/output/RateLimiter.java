@@ -1,12 +1,36 @@
 package dev.ivanhernandez.authservice.application.port.output;
 
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+
 import java.time.Duration;
 
 public interface RateLimiter {
 
-    boolean isAllowed(String key, int maxAttempts, Duration window);
+    RateLimitDecision tryAcquire(RateLimitKey key, int maxAttempts, Duration window);
+
+    default RateLimitDecision tryAcquire(String scope, long addressHigh, long addressLow,
+                                         int maxAttempts, Duration window) {
+        return tryAcquire(new RateLimitKey(scope, addressHigh, addressLow), maxAttempts, window);
+    }
+
+    long getTimeToReset(RateLimitKey key);
+
+    void reset(RateLimitKey key);
+
+    default RateLimitDecision tryAcquire(String key, int maxAttempts, Duration window) {
+        return tryAcquire(RateLimitKey.of(key), maxAttempts, window);
+    }
+
+    default boolean isAllowed(String key, int maxAttempts, Duration window) {
+        return tryAcquire(key, maxAttempts, window).allowed();
+    }
 
-    long getTimeToReset(String key);
+    default long getTimeToReset(String key) {
+        return getTimeToReset(RateLimitKey.of(key));
+    }
 
-    void reset(String key);
+    default void reset(String key) {
+        reset(RateLimitKey.of(key));
+    }
 }
@@ -2,6 +2,7 @@ package dev.ivanhernandez.authservice.application.port.output;
 
 import dev.ivanhernandez.authservice.domain.model.RefreshToken;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -13,6 +14,10 @@ public interface RefreshTokenRepository {
 
     void revokeByTokenHash(String tokenHash);
 
+    boolean consume(UUID tokenId, LocalDateTime consumedAt);
+
+    void revokeFamily(UUID familyId);
+
     void revokeAllByUserId(UUID userId);
 
     void deleteExpiredTokens();
@@ -1,5 +1,6 @@
 package dev.ivanhernandez.authservice.application.port.output;
 
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
 import dev.ivanhernandez.authservice.domain.model.User;
 
 import java.util.Optional;
@@ -15,5 +16,13 @@ public interface UserRepository {
 
     Optional<User> findByEmailAndTenantSlug(String email, String tenantSlug);
 
+    Optional<AuthPrincipal> findAuthPrincipalByEmailAndTenantSlug(String email, String tenantSlug);
+
+    Optional<AuthPrincipal> findAuthPrincipalById(UUID id);
+
+    boolean updatePasswordHash(UUID userId, String expectedHash, String newHash);
+
+    boolean rehashPassword(UUID userId, String expectedHash, String upgradedHash);
+
     boolean existsByEmailAndTenantId(String email, UUID tenantId);
 }
@@ -0,0 +1,14 @@
+package dev.ivanhernandez.authservice.application.port.output;
+
+import dev.ivanhernandez.authservice.domain.model.User;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+public interface UserSnapshotCache {
+
+    Optional<User> findById(UUID userId, Function<UUID, Optional<User>> loader);
+
+    void invalidate(UUID userId);
+}
@@ -5,11 +5,12 @@ import dev.ivanhernandez.authservice.application.port.input.ChangePasswordUseCas
 import dev.ivanhernandez.authservice.application.port.output.PasswordEncoder;
 import dev.ivanhernandez.authservice.application.port.output.RefreshTokenRepository;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.InvalidCredentialsException;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
 import dev.ivanhernandez.authservice.domain.model.User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.UUID;
 
@@ -17,31 +18,40 @@ import java.util.UUID;
 public class ChangePasswordUseCaseImpl implements ChangePasswordUseCase {
 
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionOperations transactionOperations;
 
     public ChangePasswordUseCaseImpl(UserRepository userRepository,
+                                     UserSnapshotCache userSnapshotCache,
                                      RefreshTokenRepository refreshTokenRepository,
-                                     PasswordEncoder passwordEncoder) {
+                                     PasswordEncoder passwordEncoder,
+                                     TransactionOperations transactionOperations) {
         this.userRepository = userRepository;
+        this.userSnapshotCache = userSnapshotCache;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
+        this.transactionOperations = transactionOperations;
     }
 
     @Override
-    @Transactional
     public void changePassword(UUID userId, ChangePasswordRequest request) {
-        User user = userRepository.findById(userId)
+        User user = transactionOperations.execute(status -> userRepository.findById(userId))
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        if (!passwordEncoder.matches(request.currentPassword(), user.getPasswordHash())) {
+        if (!passwordEncoder.matches(user.getTenant().getId(), request.currentPassword(), user.getPasswordHash())) {
             throw new InvalidCredentialsException();
         }
 
-        String newPasswordHash = passwordEncoder.encode(request.newPassword());
-        user.updatePassword(newPasswordHash);
-        userRepository.save(user);
+        String newPasswordHash = passwordEncoder.encode(user.getTenant().getId(), request.newPassword());
 
-        refreshTokenRepository.revokeAllByUserId(userId);
+        transactionOperations.executeWithoutResult(status -> {
+            if (!userRepository.updatePasswordHash(userId, user.getPasswordHash(), newPasswordHash)) {
+                throw new InvalidCredentialsException();
+            }
+            refreshTokenRepository.revokeAllByUserId(userId);
+        });
+        userSnapshotCache.invalidate(userId);
     }
 }
@@ -0,0 +1,21 @@
+package dev.ivanhernandez.authservice.application.usecase;
+
+import dev.ivanhernandez.authservice.application.dto.response.JwksResponse;
+import dev.ivanhernandez.authservice.application.port.input.GetJwksUseCase;
+import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
+import org.springframework.stereotype.Service;
+
+@Service
+public class GetJwksUseCaseImpl implements GetJwksUseCase {
+
+    private final JwtProvider jwtProvider;
+
+    public GetJwksUseCaseImpl(JwtProvider jwtProvider) {
+        this.jwtProvider = jwtProvider;
+    }
+
+    @Override
+    public JwksResponse getJwks() {
+        return JwksResponse.of(jwtProvider.getPublicJwks());
+    }
+}
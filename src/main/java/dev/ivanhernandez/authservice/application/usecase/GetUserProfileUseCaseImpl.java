@@ -1,12 +1,14 @@
 package dev.ivanhernandez.authservice.application.usecase;
 
 import dev.ivanhernandez.authservice.application.dto.response.UserProfileResponse;
+import dev.ivanhernandez.authservice.application.dto.response.UserProfileSnapshot;
 import dev.ivanhernandez.authservice.application.port.input.GetUserProfileUseCase;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
 import dev.ivanhernandez.authservice.domain.model.User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.UUID;
 
@@ -14,17 +16,28 @@ import java.util.UUID;
 public class GetUserProfileUseCaseImpl implements GetUserProfileUseCase {
 
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
+    private final TransactionOperations transactionOperations;
 
-    public GetUserProfileUseCaseImpl(UserRepository userRepository) {
+    public GetUserProfileUseCaseImpl(UserRepository userRepository,
+                                     UserSnapshotCache userSnapshotCache,
+                                     TransactionOperations transactionOperations) {
         this.userRepository = userRepository;
+        this.userSnapshotCache = userSnapshotCache;
+        this.transactionOperations = transactionOperations;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public UserProfileResponse getProfile(UUID userId) {
-        User user = userRepository.findById(userId)
+        return getProfileSnapshot(userId).profile();
+    }
+
+    @Override
+    public UserProfileSnapshot getProfileSnapshot(UUID userId) {
+        User user = userSnapshotCache.findById(userId, id ->
+                        transactionOperations.execute(status -> userRepository.findById(id)))
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        return UserProfileResponse.fromDomain(user);
+        return UserProfileSnapshot.fromDomain(user);
     }
 }
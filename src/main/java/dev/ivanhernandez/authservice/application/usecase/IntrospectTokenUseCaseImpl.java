@@ -4,8 +4,10 @@ import dev.ivanhernandez.authservice.application.dto.response.IntrospectResponse
 import dev.ivanhernandez.authservice.application.port.input.IntrospectTokenUseCase;
 import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
 import dev.ivanhernandez.authservice.application.port.output.TokenBlacklist;
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -21,22 +23,21 @@ public class IntrospectTokenUseCaseImpl implements IntrospectTokenUseCase {
 
     @Override
     public IntrospectResponse introspect(String token) {
-        if (!jwtProvider.validateToken(token)) {
+        Optional<AccessTokenClaims> parsed = jwtProvider.parseAccessToken(token);
+        if (parsed.isEmpty()) {
             return IntrospectResponse.inactive();
         }
 
-        if (tokenBlacklist.isBlacklisted(token)) {
+        AccessTokenClaims claims = parsed.get();
+        if (tokenBlacklist.isBlacklisted(claims.tokenId())) {
             return IntrospectResponse.inactive();
         }
 
         try {
-            UUID userId = UUID.fromString(jwtProvider.getUserIdFromToken(token));
-            UUID tenantId = UUID.fromString(jwtProvider.getTenantIdFromToken(token));
-            String tenantSlug = jwtProvider.getTenantSlugFromToken(token);
-            String email = jwtProvider.getEmailFromToken(token);
-            var roles = jwtProvider.getRolesFromToken(token);
+            UUID userId = UUID.fromString(claims.userId());
+            UUID tenantId = UUID.fromString(claims.tenantId());
 
-            return IntrospectResponse.active(userId, tenantId, tenantSlug, email, roles);
+            return IntrospectResponse.active(userId, tenantId, claims.tenantSlug(), claims.email(), claims.roles());
         } catch (Exception e) {
             return IntrospectResponse.inactive();
         }
@@ -6,105 +6,140 @@ import dev.ivanhernandez.authservice.application.dto.response.UserProfileRespons
 import dev.ivanhernandez.authservice.application.port.input.LoginUseCase;
 import dev.ivanhernandez.authservice.application.port.output.*;
 import dev.ivanhernandez.authservice.domain.exception.InvalidCredentialsException;
+import dev.ivanhernandez.authservice.domain.exception.RateLimitExceededException;
+import dev.ivanhernandez.authservice.domain.exception.ServerBusyException;
 import dev.ivanhernandez.authservice.domain.exception.TenantDisabledException;
 import dev.ivanhernandez.authservice.domain.exception.UserDisabledException;
 import dev.ivanhernandez.authservice.domain.exception.UserNotVerifiedException;
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
 import dev.ivanhernandez.authservice.domain.model.LoginAttempt;
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
 import dev.ivanhernandez.authservice.domain.model.RefreshToken;
-import dev.ivanhernandez.authservice.domain.model.User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.UUID;
 
 @Service
 public class LoginUseCaseImpl implements LoginUseCase {
 
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
-    private final LoginAttemptRepository loginAttemptRepository;
+    private final LoginAttemptRecorder loginAttemptRecorder;
+    private final LoginThrottle loginThrottle;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
     private final TokenGenerator tokenGenerator;
+    private final TransactionOperations transactionOperations;
 
     public LoginUseCaseImpl(UserRepository userRepository,
                             RefreshTokenRepository refreshTokenRepository,
-                            LoginAttemptRepository loginAttemptRepository,
+                            LoginAttemptRecorder loginAttemptRecorder,
+                            LoginThrottle loginThrottle,
                             PasswordEncoder passwordEncoder,
                             JwtProvider jwtProvider,
-                            TokenGenerator tokenGenerator) {
+                            TokenGenerator tokenGenerator,
+                            TransactionOperations transactionOperations) {
         this.userRepository = userRepository;
         this.refreshTokenRepository = refreshTokenRepository;
-        this.loginAttemptRepository = loginAttemptRepository;
+        this.loginAttemptRecorder = loginAttemptRecorder;
+        this.loginThrottle = loginThrottle;
         this.passwordEncoder = passwordEncoder;
         this.jwtProvider = jwtProvider;
         this.tokenGenerator = tokenGenerator;
+        this.transactionOperations = transactionOperations;
     }
 
     @Override
-    @Transactional
     public AuthResponse login(LoginRequest request, String ipAddress, String userAgent) {
-        User user = userRepository.findByEmailAndTenantSlug(request.email().toLowerCase(), request.tenantSlug())
+        RateLimitDecision throttle = loginThrottle.check(request.tenantSlug(), request.email(), ipAddress);
+        if (!throttle.allowed()) {
+            throw new RateLimitExceededException(throttle.retryAfterSeconds());
+        }
+
+        AuthPrincipal principal = userRepository
+                .findAuthPrincipalByEmailAndTenantSlug(request.email().toLowerCase(), request.tenantSlug())
                 .orElseThrow(() -> {
                     recordFailedAttempt(request, ipAddress, userAgent);
                     return new InvalidCredentialsException();
                 });
 
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        if (!passwordEncoder.matches(principal.tenantId(), request.password(), principal.passwordHash())) {
             recordFailedAttempt(request, ipAddress, userAgent);
             throw new InvalidCredentialsException();
         }
 
-        if (!user.getTenant().isEnabled()) {
+        if (!principal.tenantEnabled()) {
             throw new TenantDisabledException(request.tenantSlug());
         }
 
-        if (!user.isEnabled()) {
+        if (!principal.enabled()) {
             throw new UserDisabledException(request.email());
         }
 
-        if (!user.isEmailVerified()) {
+        if (!principal.emailVerified()) {
             throw new UserNotVerifiedException(request.email());
         }
 
-        recordSuccessfulAttempt(user, request, ipAddress, userAgent);
+        String upgradedHash = upgradeHash(principal, request.password());
 
-        String accessToken = jwtProvider.generateAccessToken(user);
+        String accessToken = jwtProvider.generateAccessToken(principal);
         String refreshToken = tokenGenerator.generateSecureToken(32);
         String refreshTokenHash = hashToken(refreshToken);
 
-        RefreshToken tokenEntity = RefreshToken.create(user.getId(), refreshTokenHash);
-        refreshTokenRepository.save(tokenEntity);
+        RefreshToken tokenEntity = RefreshToken.create(principal.userId(), refreshTokenHash);
+        transactionOperations.executeWithoutResult(status -> {
+            if (upgradedHash != null) {
+                userRepository.rehashPassword(principal.userId(), principal.passwordHash(), upgradedHash);
+            }
+            refreshTokenRepository.save(tokenEntity);
+        });
+        recordSuccessfulAttempt(principal, request, ipAddress, userAgent);
 
         return AuthResponse.of(
                 accessToken,
                 refreshToken,
                 jwtProvider.getAccessTokenExpirationMs(),
-                UserProfileResponse.fromDomain(user)
+                UserProfileResponse.fromPrincipal(principal)
         );
     }
 
+    private String upgradeHash(AuthPrincipal principal, String rawPassword) {
+        UUID tenantId = principal.tenantId();
+        if (!passwordEncoder.needsRehash(tenantId, principal.passwordHash())) {
+            return null;
+        }
+        try {
+            return passwordEncoder.encode(tenantId, rawPassword);
+        } catch (ServerBusyException e) {
+            return null;
+        }
+    }
+
     private void recordFailedAttempt(LoginRequest request, String ipAddress, String userAgent) {
+        loginThrottle.recordFailure(request.tenantSlug(), request.email(), ipAddress);
         LoginAttempt attempt = LoginAttempt.failure(
                 request.email(),
                 request.tenantSlug(),
                 ipAddress,
                 userAgent
         );
-        loginAttemptRepository.save(attempt);
+        loginAttemptRecorder.record(attempt);
     }
 
-    private void recordSuccessfulAttempt(User user, LoginRequest request, String ipAddress, String userAgent) {
+    private void recordSuccessfulAttempt(AuthPrincipal principal, LoginRequest request, String ipAddress, String userAgent) {
+        loginThrottle.recordSuccess(request.tenantSlug(), request.email());
         LoginAttempt attempt = LoginAttempt.success(
-                user.getId(),
+                principal.userId(),
                 request.email(),
                 request.tenantSlug(),
                 ipAddress,
                 userAgent
         );
-        loginAttemptRepository.save(attempt);
+        loginAttemptRecorder.record(attempt);
     }
 
     private String hashToken(String token) {
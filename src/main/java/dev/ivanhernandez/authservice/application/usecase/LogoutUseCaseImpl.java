@@ -44,10 +44,12 @@ public class LogoutUseCaseImpl implements LogoutUseCase {
 
     private void blacklistAccessToken(String accessToken) {
         if (accessToken != null) {
-            long remainingSeconds = jwtProvider.getRemainingExpirationSeconds(accessToken);
-            if (remainingSeconds > 0) {
-                tokenBlacklist.blacklist(accessToken, remainingSeconds);
-            }
+            jwtProvider.parseAccessToken(accessToken).ifPresent(claims -> {
+                long remainingSeconds = claims.getRemainingSeconds();
+                if (remainingSeconds > 0) {
+                    tokenBlacklist.blacklist(claims.tokenId(), remainingSeconds);
+                }
+            });
         }
     }
 
@@ -4,18 +4,20 @@ import dev.ivanhernandez.authservice.application.dto.response.TokenResponse;
 import dev.ivanhernandez.authservice.application.port.input.RefreshTokenUseCase;
 import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
 import dev.ivanhernandez.authservice.application.port.output.RefreshTokenRepository;
+import dev.ivanhernandez.authservice.application.port.output.TokenGenerator;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
 import dev.ivanhernandez.authservice.domain.exception.InvalidTokenException;
 import dev.ivanhernandez.authservice.domain.exception.TokenExpiredException;
 import dev.ivanhernandez.authservice.domain.exception.TokenRevokedException;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
 import dev.ivanhernandez.authservice.domain.model.RefreshToken;
-import dev.ivanhernandez.authservice.domain.model.User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.Base64;
 
 @Service
@@ -24,17 +26,22 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
     private final RefreshTokenRepository refreshTokenRepository;
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final TokenGenerator tokenGenerator;
+    private final TransactionOperations transactionOperations;
 
     public RefreshTokenUseCaseImpl(RefreshTokenRepository refreshTokenRepository,
                                    UserRepository userRepository,
-                                   JwtProvider jwtProvider) {
+                                   JwtProvider jwtProvider,
+                                   TokenGenerator tokenGenerator,
+                                   TransactionOperations transactionOperations) {
         this.refreshTokenRepository = refreshTokenRepository;
         this.userRepository = userRepository;
         this.jwtProvider = jwtProvider;
+        this.tokenGenerator = tokenGenerator;
+        this.transactionOperations = transactionOperations;
     }
 
     @Override
-    @Transactional(readOnly = true)
     public TokenResponse refresh(String refreshToken) {
         String tokenHash = hashToken(refreshToken);
 
@@ -45,16 +52,50 @@ public class RefreshTokenUseCaseImpl implements RefreshTokenUseCase {
             throw new TokenRevokedException();
         }
 
+        if (storedToken.isConsumed()) {
+            throw rejectReuse(storedToken);
+        }
+
         if (storedToken.isExpired()) {
             throw new TokenExpiredException();
         }
 
-        User user = userRepository.findById(storedToken.getUserId())
+        AuthPrincipal principal = userRepository.findAuthPrincipalById(storedToken.getUserId())
                 .orElseThrow(() -> new UserNotFoundException("User not found"));
 
-        String accessToken = jwtProvider.generateAccessToken(user);
+        String newRefreshToken = tokenGenerator.generateSecureToken(32);
+        RefreshToken successor = storedToken.rotate(hashToken(newRefreshToken));
+
+        boolean rotated = Boolean.TRUE.equals(transactionOperations.execute(status -> {
+            if (!refreshTokenRepository.consume(storedToken.getId(), LocalDateTime.now())) {
+                return false;
+            }
+            refreshTokenRepository.save(successor);
+            return true;
+        }));
+
+        if (!rotated) {
+            RefreshToken current = refreshTokenRepository.findByTokenHash(tokenHash)
+                    .orElseThrow(InvalidTokenException::new);
+            if (current.isConsumed()) {
+                throw rejectReuse(current);
+            }
+            if (current.isRevoked()) {
+                throw new TokenRevokedException();
+            }
+            throw new TokenExpiredException();
+        }
+
+        String accessToken = jwtProvider.generateAccessToken(principal);
 
-        return TokenResponse.of(accessToken, jwtProvider.getAccessTokenExpirationMs());
+        return TokenResponse.of(accessToken, newRefreshToken, jwtProvider.getAccessTokenExpirationMs());
+    }
+
+    private TokenRevokedException rejectReuse(RefreshToken token) {
+        if (!token.isWithinReuseGrace()) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId());
+        }
+        return new TokenRevokedException();
     }
 
     private String hashToken(String token) {
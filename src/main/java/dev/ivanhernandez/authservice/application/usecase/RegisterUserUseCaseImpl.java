@@ -10,8 +10,9 @@ import dev.ivanhernandez.authservice.domain.exception.UserAlreadyExistsException
 import dev.ivanhernandez.authservice.domain.model.EmailVerificationToken;
 import dev.ivanhernandez.authservice.domain.model.Tenant;
 import dev.ivanhernandez.authservice.domain.model.User;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
@@ -22,36 +23,29 @@ public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
     private final PasswordEncoder passwordEncoder;
     private final TokenGenerator tokenGenerator;
     private final EmailSender emailSender;
+    private final TransactionOperations transactionOperations;
 
     public RegisterUserUseCaseImpl(UserRepository userRepository,
                                    TenantRepository tenantRepository,
                                    EmailVerificationTokenRepository verificationTokenRepository,
                                    PasswordEncoder passwordEncoder,
                                    TokenGenerator tokenGenerator,
-                                   EmailSender emailSender) {
+                                   EmailSender emailSender,
+                                   TransactionOperations transactionOperations) {
         this.userRepository = userRepository;
         this.tenantRepository = tenantRepository;
         this.verificationTokenRepository = verificationTokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.tokenGenerator = tokenGenerator;
         this.emailSender = emailSender;
+        this.transactionOperations = transactionOperations;
     }
 
     @Override
-    @Transactional
     public UserProfileResponse register(RegisterRequest request) {
-        Tenant tenant = tenantRepository.findBySlug(request.tenantSlug())
-                .orElseThrow(() -> new TenantNotFoundException(request.tenantSlug()));
+        Tenant tenant = transactionOperations.execute(status -> findRegistrableTenant(request));
 
-        if (!tenant.isEnabled()) {
-            throw new TenantDisabledException(request.tenantSlug());
-        }
-
-        if (userRepository.existsByEmailAndTenantId(request.email().toLowerCase(), tenant.getId())) {
-            throw new UserAlreadyExistsException(request.email());
-        }
-
-        String passwordHash = passwordEncoder.encode(request.password());
+        String passwordHash = passwordEncoder.encode(tenant.getId(), request.password());
 
         User user = User.create(
                 tenant,
@@ -61,14 +55,34 @@ public class RegisterUserUseCaseImpl implements RegisterUserUseCase {
                 request.lastName()
         );
 
-        User savedUser = userRepository.save(user);
-
         String token = tokenGenerator.generateSecureToken(32);
-        EmailVerificationToken verificationToken = EmailVerificationToken.create(savedUser.getId(), token);
-        verificationTokenRepository.save(verificationToken);
+        User savedUser;
+        try {
+            savedUser = transactionOperations.execute(status -> {
+                User saved = userRepository.save(user);
+                verificationTokenRepository.save(EmailVerificationToken.create(saved.getId(), token));
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyExistsException(request.email());
+        }
 
         emailSender.sendVerificationEmail(savedUser.getEmail(), savedUser.getFirstName(), token);
 
         return UserProfileResponse.fromDomain(savedUser);
     }
+
+    private Tenant findRegistrableTenant(RegisterRequest request) {
+        Tenant tenant = tenantRepository.findBySlug(request.tenantSlug())
+                .orElseThrow(() -> new TenantNotFoundException(request.tenantSlug()));
+
+        if (!tenant.isEnabled()) {
+            throw new TenantDisabledException(request.tenantSlug());
+        }
+
+        if (userRepository.existsByEmailAndTenantId(request.email().toLowerCase(), tenant.getId())) {
+            throw new UserAlreadyExistsException(request.email());
+        }
+        return tenant;
+    }
 }
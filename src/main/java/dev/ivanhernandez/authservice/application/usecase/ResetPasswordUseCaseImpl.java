@@ -6,36 +6,65 @@ import dev.ivanhernandez.authservice.application.port.output.PasswordEncoder;
 import dev.ivanhernandez.authservice.application.port.output.PasswordResetTokenRepository;
 import dev.ivanhernandez.authservice.application.port.output.RefreshTokenRepository;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.InvalidTokenException;
 import dev.ivanhernandez.authservice.domain.exception.TokenExpiredException;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
 import dev.ivanhernandez.authservice.domain.model.PasswordResetToken;
 import dev.ivanhernandez.authservice.domain.model.User;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 @Service
 public class ResetPasswordUseCaseImpl implements ResetPasswordUseCase {
 
     private final PasswordResetTokenRepository tokenRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionOperations transactionOperations;
 
     public ResetPasswordUseCaseImpl(PasswordResetTokenRepository tokenRepository,
                                     UserRepository userRepository,
+                                    UserSnapshotCache userSnapshotCache,
                                     RefreshTokenRepository refreshTokenRepository,
-                                    PasswordEncoder passwordEncoder) {
+                                    PasswordEncoder passwordEncoder,
+                                    TransactionOperations transactionOperations) {
         this.tokenRepository = tokenRepository;
         this.userRepository = userRepository;
+        this.userSnapshotCache = userSnapshotCache;
         this.refreshTokenRepository = refreshTokenRepository;
         this.passwordEncoder = passwordEncoder;
+        this.transactionOperations = transactionOperations;
     }
 
     @Override
-    @Transactional
     public void reset(ResetPasswordRequest request) {
-        PasswordResetToken resetToken = tokenRepository.findByToken(request.token())
+        User user = transactionOperations.execute(status -> {
+            PasswordResetToken resetToken = findUsableToken(request.token());
+            return userRepository.findById(resetToken.getUserId())
+                    .orElseThrow(() -> new UserNotFoundException("User not found"));
+        });
+
+        String newPasswordHash = passwordEncoder.encode(user.getTenant().getId(), request.newPassword());
+
+        transactionOperations.executeWithoutResult(status -> {
+            PasswordResetToken resetToken = findUsableToken(request.token());
+            if (!userRepository.updatePasswordHash(user.getId(), user.getPasswordHash(), newPasswordHash)) {
+                throw new InvalidTokenException("Password was changed during the reset, please try again");
+            }
+
+            resetToken.markAsUsed();
+            tokenRepository.save(resetToken);
+
+            refreshTokenRepository.revokeAllByUserId(user.getId());
+        });
+        userSnapshotCache.invalidate(user.getId());
+    }
+
+    private PasswordResetToken findUsableToken(String token) {
+        PasswordResetToken resetToken = tokenRepository.findByToken(token)
                 .orElseThrow(InvalidTokenException::new);
 
         if (resetToken.isUsed()) {
@@ -45,17 +74,6 @@ public class ResetPasswordUseCaseImpl implements ResetPasswordUseCase {
         if (resetToken.isExpired()) {
             throw new TokenExpiredException();
         }
-
-        User user = userRepository.findById(resetToken.getUserId())
-                .orElseThrow(() -> new UserNotFoundException("User not found"));
-
-        String newPasswordHash = passwordEncoder.encode(request.newPassword());
-        user.updatePassword(newPasswordHash);
-        userRepository.save(user);
-
-        resetToken.markAsUsed();
-        tokenRepository.save(resetToken);
-
-        refreshTokenRepository.revokeAllByUserId(user.getId());
+        return resetToken;
     }
 }
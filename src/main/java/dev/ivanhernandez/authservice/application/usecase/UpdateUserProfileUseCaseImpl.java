@@ -4,6 +4,7 @@ import dev.ivanhernandez.authservice.application.dto.request.UpdateUserProfileRe
 import dev.ivanhernandez.authservice.application.dto.response.UserProfileResponse;
 import dev.ivanhernandez.authservice.application.port.input.UpdateUserProfileUseCase;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
 import dev.ivanhernandez.authservice.domain.model.User;
 import org.springframework.stereotype.Service;
@@ -15,9 +16,11 @@ import java.util.UUID;
 public class UpdateUserProfileUseCaseImpl implements UpdateUserProfileUseCase {
 
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
 
-    public UpdateUserProfileUseCaseImpl(UserRepository userRepository) {
+    public UpdateUserProfileUseCaseImpl(UserRepository userRepository, UserSnapshotCache userSnapshotCache) {
         this.userRepository = userRepository;
+        this.userSnapshotCache = userSnapshotCache;
     }
 
     @Override
@@ -28,6 +31,7 @@ public class UpdateUserProfileUseCaseImpl implements UpdateUserProfileUseCase {
 
         user.updateProfile(request.firstName(), request.lastName());
         User savedUser = userRepository.save(user);
+        userSnapshotCache.invalidate(userId);
 
         return UserProfileResponse.fromDomain(savedUser);
     }
@@ -4,6 +4,7 @@ import dev.ivanhernandez.authservice.application.port.input.VerifyEmailUseCase;
 import dev.ivanhernandez.authservice.application.port.output.EmailSender;
 import dev.ivanhernandez.authservice.application.port.output.EmailVerificationTokenRepository;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.InvalidTokenException;
 import dev.ivanhernandez.authservice.domain.exception.TokenExpiredException;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
@@ -17,13 +18,16 @@ public class VerifyEmailUseCaseImpl implements VerifyEmailUseCase {
 
     private final EmailVerificationTokenRepository tokenRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final EmailSender emailSender;
 
     public VerifyEmailUseCaseImpl(EmailVerificationTokenRepository tokenRepository,
                                   UserRepository userRepository,
+                                  UserSnapshotCache userSnapshotCache,
                                   EmailSender emailSender) {
         this.tokenRepository = tokenRepository;
         this.userRepository = userRepository;
+        this.userSnapshotCache = userSnapshotCache;
         this.emailSender = emailSender;
     }
 
@@ -46,6 +50,7 @@ public class VerifyEmailUseCaseImpl implements VerifyEmailUseCase {
 
         user.verifyEmail();
         userRepository.save(user);
+        userSnapshotCache.invalidate(user.getId());
 
         verificationToken.markAsUsed();
         tokenRepository.save(verificationToken);
@@ -0,0 +1,15 @@
+package dev.ivanhernandez.authservice.domain.exception;
+
+public class ServerBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServerBusyException(long retryAfterSeconds) {
+        super("Server is busy. Try again in " + retryAfterSeconds + " seconds");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,27 @@
+package dev.ivanhernandez.authservice.domain.model;
+
+import java.time.Instant;
+import java.util.List;
+
+public record AccessTokenClaims(
+        String tokenId,
+        String userId,
+        String tenantId,
+        String tenantSlug,
+        String email,
+        List<String> roles,
+        Instant expiresAt
+) {
+    public AccessTokenClaims {
+        roles = roles != null ? List.copyOf(roles) : List.of();
+    }
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+
+    public long getRemainingSeconds() {
+        long remainingMs = expiresAt.toEpochMilli() - System.currentTimeMillis();
+        return Math.max(0, remainingMs / 1000);
+    }
+}
@@ -0,0 +1,43 @@
+package dev.ivanhernandez.authservice.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+public record AuthPrincipal(
+        UUID userId,
+        String email,
+        String passwordHash,
+        String firstName,
+        String lastName,
+        boolean emailVerified,
+        boolean enabled,
+        LocalDateTime createdAt,
+        UUID tenantId,
+        String tenantSlug,
+        String tenantName,
+        boolean tenantEnabled,
+        Set<Role> roles
+) {
+    public AuthPrincipal {
+        roles = roles != null ? Set.copyOf(roles) : Set.of();
+    }
+
+    public static AuthPrincipal fromUser(User user) {
+        return new AuthPrincipal(
+                user.getId(),
+                user.getEmail(),
+                user.getPasswordHash(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.isEmailVerified(),
+                user.isEnabled(),
+                user.getCreatedAt(),
+                user.getTenant().getId(),
+                user.getTenant().getSlug(),
+                user.getTenant().getName(),
+                user.getTenant().isEnabled(),
+                user.getRoles()
+        );
+    }
+}
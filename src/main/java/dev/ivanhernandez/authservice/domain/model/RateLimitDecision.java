@@ -0,0 +1,16 @@
+package dev.ivanhernandez.authservice.domain.model;
+
+public record RateLimitDecision(
+        boolean allowed,
+        long retryAfterSeconds
+) {
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision reject(long retryAfterSeconds) {
+        return new RateLimitDecision(false, Math.max(1, retryAfterSeconds));
+    }
+}
@@ -0,0 +1,54 @@
+package dev.ivanhernandez.authservice.domain.model;
+
+public record RateLimitKey(
+        String scope,
+        long addressHigh,
+        long addressLow
+) {
+    private static final long IPV4_MAPPED_PREFIX = 0x0000ffff00000000L;
+
+    public static RateLimitKey of(String scope) {
+        return new RateLimitKey(scope, 0, 0);
+    }
+
+    public static RateLimitKey ipv4(String scope, int address) {
+        return new RateLimitKey(scope, 0, IPV4_MAPPED_PREFIX | (address & 0xffffffffL));
+    }
+
+    public boolean hasAddress() {
+        return addressHigh != 0 || addressLow != 0;
+    }
+
+    public boolean isIpv4() {
+        return addressHigh == 0 && (addressLow & 0xffffffff00000000L) == IPV4_MAPPED_PREFIX;
+    }
+
+    public String asString() {
+        if (!hasAddress()) {
+            return scope;
+        }
+        return appendAddress(new StringBuilder(scope.length() + 40).append(scope).append(':')).toString();
+    }
+
+    public String addressAsString() {
+        return hasAddress() ? appendAddress(new StringBuilder(39)).toString() : null;
+    }
+
+    private StringBuilder appendAddress(StringBuilder builder) {
+        if (isIpv4()) {
+            return builder.append((addressLow >>> 24) & 0xff).append('.')
+                    .append((addressLow >>> 16) & 0xff).append('.')
+                    .append((addressLow >>> 8) & 0xff).append('.')
+                    .append(addressLow & 0xff);
+        }
+
+        for (int i = 0; i < 8; i++) {
+            long half = i < 4 ? addressHigh : addressLow;
+            if (i > 0) {
+                builder.append(':');
+            }
+            builder.append(Long.toHexString((half >>> (16 * (3 - (i & 3)))) & 0xffff));
+        }
+        return builder;
+    }
+}
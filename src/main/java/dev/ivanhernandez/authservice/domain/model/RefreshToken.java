@@ -6,6 +6,7 @@ import java.util.UUID;
 public class RefreshToken {
 
     private static final int EXPIRATION_DAYS = 30;
+    private static final int REUSE_GRACE_SECONDS = 10;
 
     private UUID id;
     private UUID userId;
@@ -13,16 +14,27 @@ public class RefreshToken {
     private LocalDateTime expiresAt;
     private boolean revoked;
     private LocalDateTime createdAt;
+    private UUID familyId;
+    private LocalDateTime consumedAt;
 
     public RefreshToken(UUID id, UUID userId, String tokenHash,
                         LocalDateTime expiresAt, boolean revoked,
                         LocalDateTime createdAt) {
+        this(id, userId, tokenHash, expiresAt, revoked, createdAt, null, null);
+    }
+
+    public RefreshToken(UUID id, UUID userId, String tokenHash,
+                        LocalDateTime expiresAt, boolean revoked,
+                        LocalDateTime createdAt, UUID familyId,
+                        LocalDateTime consumedAt) {
         this.id = id;
         this.userId = userId;
         this.tokenHash = tokenHash;
         this.expiresAt = expiresAt;
         this.revoked = revoked;
         this.createdAt = createdAt;
+        this.familyId = familyId;
+        this.consumedAt = consumedAt;
     }
 
     public static RefreshToken create(UUID userId, String tokenHash) {
@@ -32,7 +44,22 @@ public class RefreshToken {
                 tokenHash,
                 LocalDateTime.now().plusDays(EXPIRATION_DAYS),
                 false,
-                LocalDateTime.now()
+                LocalDateTime.now(),
+                UUID.randomUUID(),
+                null
+        );
+    }
+
+    public RefreshToken rotate(String newTokenHash) {
+        return new RefreshToken(
+                null,
+                userId,
+                newTokenHash,
+                expiresAt,
+                false,
+                LocalDateTime.now(),
+                getFamilyId(),
+                null
         );
     }
 
@@ -60,12 +87,29 @@ public class RefreshToken {
         return createdAt;
     }
 
+    public UUID getFamilyId() {
+        return familyId != null ? familyId : id;
+    }
+
+    public LocalDateTime getConsumedAt() {
+        return consumedAt;
+    }
+
+    public boolean isConsumed() {
+        return consumedAt != null;
+    }
+
+    public boolean isWithinReuseGrace() {
+        return consumedAt != null
+                && !LocalDateTime.now().isAfter(consumedAt.plusSeconds(REUSE_GRACE_SECONDS));
+    }
+
     public boolean isExpired() {
         return LocalDateTime.now().isAfter(expiresAt);
     }
 
     public boolean isValid() {
-        return !isRevoked() && !isExpired();
+        return !isRevoked() && !isConsumed() && !isExpired();
     }
 
     public void revoke() {
@@ -7,6 +7,7 @@ import dev.ivanhernandez.authservice.application.dto.response.MessageResponse;
 import dev.ivanhernandez.authservice.application.dto.response.TokenResponse;
 import dev.ivanhernandez.authservice.application.dto.response.UserProfileResponse;
 import dev.ivanhernandez.authservice.application.port.input.*;
+import dev.ivanhernandez.authservice.infrastructure.config.ClientAddressResolver;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -36,6 +37,7 @@ public class AuthController {
     private final RequestPasswordResetUseCase requestPasswordResetUseCase;
     private final ResetPasswordUseCase resetPasswordUseCase;
     private final IntrospectTokenUseCase introspectTokenUseCase;
+    private final ClientAddressResolver clientAddressResolver;
 
     public AuthController(RegisterUserUseCase registerUserUseCase,
                           LoginUseCase loginUseCase,
@@ -44,7 +46,8 @@ public class AuthController {
                           VerifyEmailUseCase verifyEmailUseCase,
                           RequestPasswordResetUseCase requestPasswordResetUseCase,
                           ResetPasswordUseCase resetPasswordUseCase,
-                          IntrospectTokenUseCase introspectTokenUseCase) {
+                          IntrospectTokenUseCase introspectTokenUseCase,
+                          ClientAddressResolver clientAddressResolver) {
         this.registerUserUseCase = registerUserUseCase;
         this.loginUseCase = loginUseCase;
         this.refreshTokenUseCase = refreshTokenUseCase;
@@ -53,6 +56,7 @@ public class AuthController {
         this.requestPasswordResetUseCase = requestPasswordResetUseCase;
         this.resetPasswordUseCase = resetPasswordUseCase;
         this.introspectTokenUseCase = introspectTokenUseCase;
+        this.clientAddressResolver = clientAddressResolver;
     }
 
     @PostMapping("/register")
@@ -81,7 +85,7 @@ public class AuthController {
     })
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
                                               HttpServletRequest httpRequest) {
-        String ipAddress = getClientIpAddress(httpRequest);
+        String ipAddress = clientAddressResolver.resolveAddress(httpRequest);
         String userAgent = httpRequest.getHeader("User-Agent");
 
         AuthResponse response = loginUseCase.login(request, ipAddress, userAgent);
@@ -89,11 +93,11 @@ public class AuthController {
     }
 
     @PostMapping("/refresh")
-    @Operation(summary = "Refresh token", description = "Generates a new access token using a valid refresh token")
+    @Operation(summary = "Refresh token", description = "Generates a new access token and rotates the refresh token; reusing a rotated refresh token revokes the whole session")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Token refreshed successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid request data", content = @Content(schema = @Schema(ref = "#/components/schemas/ValidationErrorResponse"))),
-            @ApiResponse(responseCode = "401", description = "Invalid or expired refresh token", content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse")))
+            @ApiResponse(responseCode = "401", description = "Invalid, expired, revoked or already used refresh token", content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse")))
     })
     public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
         TokenResponse response = refreshTokenUseCase.refresh(request.refreshToken());
@@ -197,16 +201,4 @@ public class AuthController {
         resetPasswordUseCase.reset(request);
         return ResponseEntity.ok(MessageResponse.of("Password reset successfully"));
     }
-
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        return request.getRemoteAddr();
-    }
 }
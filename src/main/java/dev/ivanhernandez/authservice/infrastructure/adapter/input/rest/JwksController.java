@@ -0,0 +1,40 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.input.rest;
+
+import dev.ivanhernandez.authservice.application.dto.response.JwksResponse;
+import dev.ivanhernandez.authservice.application.port.input.GetJwksUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@Tag(name = "Keys", description = "Public signing keys for offline token validation")
+public class JwksController {
+
+    private final GetJwksUseCase getJwksUseCase;
+    private final CacheControl cacheControl;
+
+    public JwksController(GetJwksUseCase getJwksUseCase,
+                          @Value("${jwt.jwks-max-age-seconds:300}") long maxAgeSeconds) {
+        this.getJwksUseCase = getJwksUseCase;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    @Operation(summary = "Get JSON Web Key Set", description = "Returns the public keys used to sign access tokens")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Key set retrieved successfully")
+    })
+    public ResponseEntity<JwksResponse> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(getJwksUseCase.getJwks());
+    }
+}
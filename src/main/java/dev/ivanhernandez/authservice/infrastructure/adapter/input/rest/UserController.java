@@ -4,6 +4,7 @@ import dev.ivanhernandez.authservice.application.dto.request.ChangePasswordReque
 import dev.ivanhernandez.authservice.application.dto.request.UpdateUserProfileRequest;
 import dev.ivanhernandez.authservice.application.dto.response.MessageResponse;
 import dev.ivanhernandez.authservice.application.dto.response.UserProfileResponse;
+import dev.ivanhernandez.authservice.application.dto.response.UserProfileSnapshot;
 import dev.ivanhernandez.authservice.application.port.input.ChangePasswordUseCase;
 import dev.ivanhernandez.authservice.application.port.input.GetUserProfileUseCase;
 import dev.ivanhernandez.authservice.application.port.input.UpdateUserProfileUseCase;
@@ -18,6 +19,7 @@ import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.UUID;
 
@@ -40,16 +42,22 @@ public class UserController {
     }
 
     @GetMapping("/me")
-    @Operation(summary = "Get current user profile", description = "Returns the profile of the authenticated user")
+    @Operation(summary = "Get current user profile", description = "Returns the profile of the authenticated user, or 304 when If-None-Match still matches its ETag")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User profile retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "User profile not modified", content = @Content),
             @ApiResponse(responseCode = "401", description = "Not authenticated", content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"))),
             @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse"))),
             @ApiResponse(responseCode = "404", description = "User not found", content = @Content(schema = @Schema(ref = "#/components/schemas/ErrorResponse")))
     })
-    public ResponseEntity<UserProfileResponse> getProfile(@AuthenticationPrincipal UUID userId) {
-        UserProfileResponse response = getUserProfileUseCase.getProfile(userId);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<UserProfileResponse> getProfile(@AuthenticationPrincipal UUID userId, WebRequest webRequest) {
+        UserProfileSnapshot snapshot = getUserProfileUseCase.getProfileSnapshot(userId);
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .body(snapshot.profile());
     }
 
     @PutMapping("/me")
@@ -0,0 +1,195 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.application.port.output.LoginAttemptRecorder;
+import dev.ivanhernandez.authservice.domain.model.LoginAttempt;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class JdbcBatchLoginAttemptRecorder implements LoginAttemptRecorder, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcBatchLoginAttemptRecorder.class);
+    private static final String INSERT_SQL = """
+            INSERT INTO login_attempts (id, user_id, email, tenant_slug, ip_address, user_agent, success, attempted_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final BlockingQueue<LoginAttempt> buffer;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long shutdownTimeoutMs;
+    private final OverflowPolicy overflowPolicy;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private Thread writer;
+
+    public JdbcBatchLoginAttemptRecorder(
+            JdbcTemplate jdbcTemplate,
+            @Value("${login-attempts.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${login-attempts.batch-size:500}") int batchSize,
+            @Value("${login-attempts.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${login-attempts.shutdown-timeout-ms:5000}") long shutdownTimeoutMs,
+            @Value("${login-attempts.overflow-policy:DROP}") OverflowPolicy overflowPolicy) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "login-attempt-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void record(LoginAttempt attempt) {
+        if (stopped) {
+            write(List.of(attempt));
+            return;
+        }
+        if (buffer.offer(attempt)) {
+            if (stopped) {
+                drain();
+            }
+            return;
+        }
+        switch (overflowPolicy) {
+            case DROP -> dropped.increment();
+            case CALLER_RUNS -> write(List.of(attempt));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        stopped = true;
+        if (writer != null) {
+            try {
+                writer.join(shutdownTimeoutMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        drain();
+    }
+
+    public int getBufferedCount() {
+        return buffer.size();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("login.attempts.buffer.size", this, JdbcBatchLoginAttemptRecorder::getBufferedCount)
+                .description("Login attempts waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("login.attempts.written", written, LongAdder::sum)
+                .description("Login attempts written to the audit table")
+                .register(registry);
+        FunctionCounter.builder("login.attempts.dropped", dropped, LongAdder::sum)
+                .description("Login attempts discarded because the buffer was full")
+                .register(registry);
+        FunctionCounter.builder("login.attempts.failed", failed, LongAdder::sum)
+                .description("Login attempts lost because their batch write failed")
+                .register(registry);
+    }
+
+    private void runWriter() {
+        List<LoginAttempt> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                LoginAttempt first = buffer.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                buffer.drainTo(batch, batchSize - batch.size());
+                while (batch.size() < batchSize && running) {
+                    LoginAttempt next = buffer.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    buffer.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void drain() {
+        List<LoginAttempt> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<LoginAttempt> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, attempt) -> {
+                statement.setObject(1, attempt.getId() != null ? attempt.getId() : UUID.randomUUID());
+                statement.setObject(2, attempt.getUserId());
+                statement.setString(3, attempt.getEmail());
+                statement.setString(4, attempt.getTenantSlug());
+                statement.setString(5, attempt.getIpAddress());
+                statement.setString(6, attempt.getUserAgent());
+                statement.setBoolean(7, attempt.isSuccess());
+                statement.setObject(8, attempt.getAttemptedAt());
+            });
+            written.add(batch.size());
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            log.warn("Failed to write {} login attempts", batch.size(), e);
+        }
+    }
+
+    public enum OverflowPolicy {
+        DROP,
+        CALLER_RUNS
+    }
+}
@@ -39,6 +39,18 @@ public class JpaRefreshTokenRepository implements RefreshTokenRepository {
         springDataRepository.revokeByTokenHash(tokenHash);
     }
 
+    @Override
+    @Transactional
+    public boolean consume(UUID tokenId, LocalDateTime consumedAt) {
+        return springDataRepository.consume(tokenId, consumedAt) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void revokeFamily(UUID familyId) {
+        springDataRepository.revokeFamily(familyId);
+    }
+
     @Override
     @Transactional
     public void revokeAllByUserId(UUID userId) {
@@ -13,28 +13,31 @@ import java.util.UUID;
 public class JpaTenantRepository implements TenantRepository {
 
     private final SpringDataTenantRepository springDataRepository;
+    private final TenantCache tenantCache;
 
-    public JpaTenantRepository(SpringDataTenantRepository springDataRepository) {
+    public JpaTenantRepository(SpringDataTenantRepository springDataRepository, TenantCache tenantCache) {
         this.springDataRepository = springDataRepository;
+        this.tenantCache = tenantCache;
     }
 
     @Override
     public Tenant save(Tenant tenant) {
         TenantJpaEntity entity = TenantJpaEntity.fromDomain(tenant);
         TenantJpaEntity saved = springDataRepository.save(entity);
+        tenantCache.invalidate(saved.getId());
         return saved.toDomain();
     }
 
     @Override
     public Optional<Tenant> findById(UUID id) {
-        return springDataRepository.findById(id)
-                .map(TenantJpaEntity::toDomain);
+        return tenantCache.findById(id, key -> springDataRepository.findById(key)
+                .map(TenantJpaEntity::toDomain));
     }
 
     @Override
     public Optional<Tenant> findBySlug(String slug) {
-        return springDataRepository.findBySlug(slug)
-                .map(TenantJpaEntity::toDomain);
+        return tenantCache.findBySlug(slug, key -> springDataRepository.findBySlug(key)
+                .map(TenantJpaEntity::toDomain));
     }
 
     @Override
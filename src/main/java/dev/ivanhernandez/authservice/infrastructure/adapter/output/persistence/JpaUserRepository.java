@@ -1,13 +1,16 @@
 package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
 
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
 import dev.ivanhernandez.authservice.domain.model.User;
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.entity.AuthPrincipalRow;
 import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.entity.TenantJpaEntity;
 import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.entity.UserJpaEntity;
 import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.spring.SpringDataTenantRepository;
 import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.spring.SpringDataUserRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -52,6 +55,28 @@ public class JpaUserRepository implements UserRepository {
                 .map(UserJpaEntity::toDomain);
     }
 
+    @Override
+    public Optional<AuthPrincipal> findAuthPrincipalByEmailAndTenantSlug(String email, String tenantSlug) {
+        return springDataUserRepository.findAuthPrincipalByEmailAndTenantSlug(email, tenantSlug)
+                .map(AuthPrincipalRow::toDomain);
+    }
+
+    @Override
+    public Optional<AuthPrincipal> findAuthPrincipalById(UUID id) {
+        return springDataUserRepository.findAuthPrincipalById(id)
+                .map(AuthPrincipalRow::toDomain);
+    }
+
+    @Override
+    public boolean updatePasswordHash(UUID userId, String expectedHash, String newHash) {
+        return springDataUserRepository.updatePasswordHash(userId, expectedHash, newHash, LocalDateTime.now()) == 1;
+    }
+
+    @Override
+    public boolean rehashPassword(UUID userId, String expectedHash, String upgradedHash) {
+        return springDataUserRepository.rehashPassword(userId, expectedHash, upgradedHash) == 1;
+    }
+
     @Override
     public boolean existsByEmailAndTenantId(String email, UUID tenantId) {
         return springDataUserRepository.existsByEmailAndTenantId(email, tenantId);
@@ -0,0 +1,154 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.application.port.output.CacheInvalidationBus;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
+import dev.ivanhernandez.authservice.domain.model.Tenant;
+import dev.ivanhernandez.authservice.domain.model.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Component
+public class LocalUserSnapshotCache implements UserSnapshotCache, MeterBinder {
+
+    static final String CACHE_NAME = "user-snapshots";
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final CacheInvalidationBus invalidationBus;
+    private final long ttlMs;
+    private final int maxSize;
+
+    public LocalUserSnapshotCache(CacheInvalidationBus invalidationBus,
+                                  @Value("${user-profile-cache.ttl-ms:60000}") long ttlMs,
+                                  @Value("${user-profile-cache.max-size:10000}") int maxSize) {
+        this.invalidationBus = invalidationBus;
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+        invalidationBus.subscribe(CACHE_NAME, key -> evict(UUID.fromString(key)));
+        invalidationBus.subscribe(TenantCache.CACHE_NAME, key -> evictTenant(UUID.fromString(key)));
+    }
+
+    @Override
+    public Optional<User> findById(UUID userId, Function<UUID, Optional<User>> loader) {
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(userId);
+        if (cached != null && now < cached.expiresAt()) {
+            hits.increment();
+            return Optional.of(copy(cached.user()));
+        }
+        misses.increment();
+
+        long loadedAtGeneration = generation.get();
+        Optional<User> loaded = loader.apply(userId);
+        loaded.ifPresent(user -> put(user, loadedAtGeneration, now));
+        return loaded;
+    }
+
+    @Override
+    public void invalidate(UUID userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidationBus.publish(CACHE_NAME, userId.toString());
+                }
+            });
+        } else {
+            invalidationBus.publish(CACHE_NAME, userId.toString());
+        }
+    }
+
+    public void evict(UUID userId) {
+        generation.incrementAndGet();
+        entries.remove(userId);
+    }
+
+    public void evictTenant(UUID tenantId) {
+        generation.incrementAndGet();
+        entries.values().removeIf(entry -> tenantId.equals(entry.user().getTenant().getId()));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .description("User profile reads served from memory")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .description("User profile reads that went to the database")
+                .register(registry);
+        Gauge.builder("cache.size", entries, Map::size)
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+    }
+
+    private void put(User user, long loadedAtGeneration, long now) {
+        if (maxSize <= 0 || user.getId() == null) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> now >= entry.expiresAt());
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        Entry entry = new Entry(copy(user), now + ttlMs);
+        entries.put(user.getId(), entry);
+        if (generation.get() != loadedAtGeneration) {
+            entries.remove(user.getId(), entry);
+        }
+    }
+
+    private static User copy(User user) {
+        Tenant tenant = user.getTenant();
+        return new User(
+                user.getId(),
+                new Tenant(tenant.getId(), tenant.getName(), tenant.getSlug(), tenant.isEnabled(), tenant.getCreatedAt()),
+                user.getEmail(),
+                user.getPasswordHash(),
+                user.getFirstName(),
+                user.getLastName(),
+                user.isEmailVerified(),
+                user.isEnabled(),
+                new HashSet<>(user.getRoles()),
+                user.getCreatedAt(),
+                user.getUpdatedAt()
+        );
+    }
+
+    private record Entry(User user, long expiresAt) {
+    }
+}
@@ -0,0 +1,230 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+@Profile("prod")
+public class LoginAttemptPartitionManager {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginAttemptPartitionManager.class);
+
+    private static final String TABLE = "login_attempts";
+    private static final String LEGACY_TABLE = "login_attempts_legacy";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern UPPER_BOUND = Pattern.compile("TO \\('([^']+)'\\)");
+
+    private static final String CREATE_PARTITIONED_TABLE = """
+            CREATE TABLE IF NOT EXISTS login_attempts (
+                id UUID NOT NULL,
+                user_id UUID,
+                email VARCHAR(255) NOT NULL,
+                tenant_slug VARCHAR(50) NOT NULL,
+                ip_address VARCHAR(45) NOT NULL,
+                user_agent VARCHAR(500),
+                success BOOLEAN NOT NULL,
+                attempted_at TIMESTAMP(6) NOT NULL,
+                CONSTRAINT login_attempts_partitioned_pkey PRIMARY KEY (id, attempted_at)
+            ) PARTITION BY RANGE (attempted_at)
+            """;
+    private static final List<String> CREATE_INDEXES = List.of(
+            "CREATE INDEX IF NOT EXISTS idx_login_attempts_email_time ON login_attempts (email, tenant_slug, attempted_at)",
+            "CREATE INDEX IF NOT EXISTS idx_login_attempts_ip_time ON login_attempts (ip_address, attempted_at)"
+    );
+    private static final long SCHEMA_LOCK_KEY = 0x6c6f67696e5f6174L;
+    private static final String TABLE_KIND = """
+            SELECT c.relkind
+            FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE c.relname = ? AND n.nspname = current_schema()
+            """;
+    private static final String LIST_PARTITIONS = """
+            SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+            FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN pg_class p ON p.oid = i.inhparent
+                JOIN pg_namespace n ON n.oid = p.relnamespace
+            WHERE p.relname = ? AND n.nspname = current_schema()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionDays;
+    private final int premakeDays;
+
+    public LoginAttemptPartitionManager(
+            JdbcTemplate jdbcTemplate,
+            @Value("${login-attempts.partitioning.retention-days:90}") int retentionDays,
+            @Value("${login-attempts.partitioning.premake-days:7}") int premakeDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+        this.premakeDays = premakeDays;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        try {
+            ensurePartitionedTable(LocalDate.now());
+            maintain(LocalDate.now());
+        } catch (DataAccessException e) {
+            log.error("Failed to prepare partitioned {} table", TABLE, e);
+        }
+    }
+
+    @Scheduled(cron = "${login-attempts.partitioning.maintenance-cron:0 5 0 * * *}")
+    public void maintain() {
+        try {
+            maintain(LocalDate.now());
+        } catch (DataAccessException e) {
+            log.error("Failed to maintain {} partitions", TABLE, e);
+        }
+    }
+
+    void ensurePartitionedTable(LocalDate today) {
+        if ("p".equals(tableKind(TABLE))) {
+            return;
+        }
+
+        Boolean converted = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT pg_advisory_xact_lock(" + SCHEMA_LOCK_KEY + ")");
+                String kind = tableKind(connection, TABLE);
+                if ("p".equals(kind)) {
+                    connection.commit();
+                    return false;
+                }
+
+                String legacyUpperBound = null;
+                if ("r".equals(kind)) {
+                    statement.execute("LOCK TABLE login_attempts IN ACCESS EXCLUSIVE MODE");
+                    legacyUpperBound = BOUND.format(legacyEnd(statement, today).atStartOfDay());
+                    statement.execute("ALTER TABLE login_attempts RENAME TO " + LEGACY_TABLE);
+                }
+                statement.execute(CREATE_PARTITIONED_TABLE);
+                for (String index : CREATE_INDEXES) {
+                    statement.execute(index);
+                }
+                if (legacyUpperBound != null) {
+                    statement.execute("ALTER TABLE login_attempts ATTACH PARTITION " + LEGACY_TABLE
+                            + " FOR VALUES FROM (MINVALUE) TO ('" + legacyUpperBound + "')");
+                }
+                connection.commit();
+                return legacyUpperBound != null;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+
+        if (Boolean.TRUE.equals(converted)) {
+            log.info("Converted {} to a partitioned table, existing rows kept in {} until retention expires",
+                    TABLE, LEGACY_TABLE);
+        }
+    }
+
+    void maintain(LocalDate today) {
+        LocalDate from = today;
+        for (Partition partition : listPartitions()) {
+            if (partition.upperBound() != null && partition.upperBound().toLocalDate().isAfter(from)) {
+                from = partition.upperBound().toLocalDate();
+            }
+        }
+        for (LocalDate day = from; !day.isAfter(today.plusDays(premakeDays)); day = day.plusDays(1)) {
+            createPartition(day);
+        }
+        dropPartitionsBefore(today.minusDays(retentionDays).atStartOfDay());
+    }
+
+    void createPartition(LocalDate day) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(day) + " PARTITION OF login_attempts"
+                + " FOR VALUES FROM ('" + BOUND.format(day.atStartOfDay()) + "')"
+                + " TO ('" + BOUND.format(day.plusDays(1).atStartOfDay()) + "')");
+    }
+
+    void dropPartitionsBefore(LocalDateTime cutoff) {
+        for (Partition partition : listPartitions()) {
+            if (partition.upperBound() != null && !partition.upperBound().isAfter(cutoff)) {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS \"" + partition.name().replace("\"", "\"\"") + "\"");
+                log.info("Dropped expired login attempts partition {}", partition.name());
+            }
+        }
+    }
+
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query(LIST_PARTITIONS,
+                (rs, rowNum) -> new Partition(rs.getString(1), upperBound(rs.getString(2))), TABLE);
+    }
+
+    List<String> partitionNames() {
+        return jdbcTemplate.query(LIST_PARTITIONS, (rs, rowNum) -> rs.getString(1), TABLE);
+    }
+
+    String tableKind(String table) {
+        List<String> kinds = jdbcTemplate.queryForList(TABLE_KIND, String.class, table);
+        return kinds.isEmpty() ? null : kinds.get(0);
+    }
+
+    private static String tableKind(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(TABLE_KIND)) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    static String partitionName(LocalDate day) {
+        return TABLE + "_p" + PARTITION_SUFFIX.format(day);
+    }
+
+    private static LocalDate legacyEnd(Statement statement, LocalDate today) throws SQLException {
+        LocalDate end = today.plusDays(1);
+        try (ResultSet rs = statement.executeQuery("SELECT MAX(attempted_at) FROM login_attempts")) {
+            if (rs.next() && rs.getTimestamp(1) != null) {
+                LocalDate latest = rs.getTimestamp(1).toLocalDateTime().toLocalDate().plusDays(1);
+                if (latest.isAfter(end)) {
+                    end = latest;
+                }
+            }
+        }
+        return end;
+    }
+
+    private static LocalDateTime upperBound(String boundExpression) {
+        if (boundExpression == null) {
+            return null;
+        }
+        Matcher matcher = UPPER_BOUND.matcher(boundExpression);
+        if (!matcher.find()) {
+            return null;
+        }
+        return Timestamp.valueOf(matcher.group(1)).toLocalDateTime();
+    }
+
+    private record Partition(String name, LocalDateTime upperBound) {
+    }
+}
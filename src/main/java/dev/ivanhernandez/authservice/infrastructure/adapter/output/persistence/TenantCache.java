@@ -0,0 +1,149 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.application.port.output.CacheInvalidationBus;
+import dev.ivanhernandez.authservice.domain.model.Tenant;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class TenantCache implements MeterBinder {
+
+    static final String CACHE_NAME = "tenants";
+
+    private final Map<UUID, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Entry> bySlug = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final CacheInvalidationBus invalidationBus;
+    private final long ttlMs;
+    private final int maxSize;
+
+    public TenantCache(CacheInvalidationBus invalidationBus,
+                       @Value("${tenant-cache.ttl-ms:300000}") long ttlMs,
+                       @Value("${tenant-cache.max-size:1000}") int maxSize) {
+        this.invalidationBus = invalidationBus;
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+        invalidationBus.subscribe(CACHE_NAME, key -> evict(UUID.fromString(key)));
+    }
+
+    public Optional<Tenant> findById(UUID id, Function<UUID, Optional<Tenant>> loader) {
+        return lookup(byId.get(id), () -> loader.apply(id));
+    }
+
+    public Optional<Tenant> findBySlug(String slug, Function<String, Optional<Tenant>> loader) {
+        return lookup(bySlug.get(slug), () -> loader.apply(slug));
+    }
+
+    public void invalidate(UUID tenantId) {
+        evict(tenantId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidationBus.publish(CACHE_NAME, tenantId.toString());
+                }
+            });
+        } else {
+            invalidationBus.publish(CACHE_NAME, tenantId.toString());
+        }
+    }
+
+    public void evict(UUID tenantId) {
+        generation.incrementAndGet();
+        byId.remove(tenantId);
+        bySlug.values().removeIf(entry -> entry.tenant().getId().equals(tenantId));
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        byId.clear();
+        bySlug.clear();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .description("Tenant lookups served from memory")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .description("Tenant lookups that went to the database")
+                .register(registry);
+        Gauge.builder("cache.size", byId, Map::size)
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+    }
+
+    private Optional<Tenant> lookup(Entry cached, Supplier<Optional<Tenant>> loader) {
+        long now = System.currentTimeMillis();
+        if (cached != null && now < cached.expiresAt()) {
+            hits.increment();
+            return Optional.of(copy(cached.tenant()));
+        }
+        misses.increment();
+
+        long loadedAtGeneration = generation.get();
+        Optional<Tenant> loaded = loader.get();
+        loaded.ifPresent(tenant -> put(tenant, loadedAtGeneration, now));
+        return loaded;
+    }
+
+    private void put(Tenant tenant, long loadedAtGeneration, long now) {
+        if (maxSize <= 0 || tenant.getId() == null) {
+            return;
+        }
+        if (byId.size() >= maxSize) {
+            byId.values().removeIf(entry -> now >= entry.expiresAt());
+            bySlug.values().removeIf(entry -> now >= entry.expiresAt());
+            if (byId.size() >= maxSize) {
+                return;
+            }
+        }
+        Entry entry = new Entry(copy(tenant), now + ttlMs);
+        byId.put(tenant.getId(), entry);
+        bySlug.put(tenant.getSlug(), entry);
+        if (generation.get() != loadedAtGeneration) {
+            byId.remove(tenant.getId(), entry);
+            bySlug.remove(tenant.getSlug(), entry);
+        }
+    }
+
+    private static Tenant copy(Tenant tenant) {
+        return new Tenant(tenant.getId(), tenant.getName(), tenant.getSlug(), tenant.isEnabled(), tenant.getCreatedAt());
+    }
+
+    private record Entry(Tenant tenant, long expiresAt) {
+    }
+}
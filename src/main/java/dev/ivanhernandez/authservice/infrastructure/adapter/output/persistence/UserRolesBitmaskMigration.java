@@ -0,0 +1,101 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.domain.model.Role;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+@Component
+@Profile("prod")
+public class UserRolesBitmaskMigration {
+
+    private static final Logger log = LoggerFactory.getLogger(UserRolesBitmaskMigration.class);
+
+    private static final String ROLES_TABLE = "user_roles";
+    private static final String MIGRATED_ROLES_TABLE = "user_roles_migrated";
+    private static final long SCHEMA_LOCK_KEY = 0x757365725f726f6cL;
+    private static final String TABLE_EXISTS = """
+            SELECT COUNT(*)
+            FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace
+            WHERE c.relname = ? AND c.relkind IN ('r', 'p') AND n.nspname = current_schema()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserRolesBitmaskMigration(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!tableExists(ROLES_TABLE)) {
+            return;
+        }
+
+        Integer migrated = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT pg_advisory_xact_lock(" + SCHEMA_LOCK_KEY + ")");
+                if (!tableExists(connection, ROLES_TABLE)) {
+                    connection.commit();
+                    return null;
+                }
+
+                statement.execute("LOCK TABLE users, user_roles IN SHARE ROW EXCLUSIVE MODE");
+                statement.execute("ALTER TABLE users ADD COLUMN IF NOT EXISTS roles INTEGER NOT NULL DEFAULT 0");
+                int updated = statement.executeUpdate("""
+                        UPDATE users u SET roles = COALESCE(
+                            (SELECT bit_or(%s) FROM user_roles r WHERE r.user_id = u.id), 0)
+                        """.formatted(roleBitExpression()));
+                statement.execute("ALTER TABLE user_roles RENAME TO " + MIGRATED_ROLES_TABLE);
+                connection.commit();
+                return updated;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+
+        if (migrated == null) {
+            return;
+        }
+        log.info("Migrated roles of {} users to the users.roles bitmask, previous rows kept in {}",
+                migrated, MIGRATED_ROLES_TABLE);
+    }
+
+    boolean tableExists(String table) {
+        List<Integer> counts = jdbcTemplate.queryForList(TABLE_EXISTS, Integer.class, table);
+        return !counts.isEmpty() && counts.get(0) > 0;
+    }
+
+    private static boolean tableExists(Connection connection, String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(TABLE_EXISTS)) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getInt(1) > 0;
+            }
+        }
+    }
+
+    static String roleBitExpression() {
+        StringBuilder expression = new StringBuilder("CASE r.role");
+        for (Role role : Role.values()) {
+            expression.append(" WHEN '").append(role.name()).append("' THEN ").append(role.bit());
+        }
+        return expression.append(" ELSE 0 END").toString();
+    }
+}
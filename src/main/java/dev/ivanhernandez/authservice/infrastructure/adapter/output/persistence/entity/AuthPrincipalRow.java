@@ -0,0 +1,41 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.entity;
+
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
+import dev.ivanhernandez.authservice.domain.model.Role;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record AuthPrincipalRow(
+        UUID userId,
+        String email,
+        String passwordHash,
+        String firstName,
+        String lastName,
+        boolean emailVerified,
+        boolean enabled,
+        LocalDateTime createdAt,
+        UUID tenantId,
+        String tenantSlug,
+        String tenantName,
+        boolean tenantEnabled,
+        int roles
+) {
+    public AuthPrincipal toDomain() {
+        return new AuthPrincipal(
+                userId,
+                email,
+                passwordHash,
+                firstName,
+                lastName,
+                emailVerified,
+                enabled,
+                createdAt,
+                tenantId,
+                tenantSlug,
+                tenantName,
+                tenantEnabled,
+                Role.fromMask(roles)
+        );
+    }
+}
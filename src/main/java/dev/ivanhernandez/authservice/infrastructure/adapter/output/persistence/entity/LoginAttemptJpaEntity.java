@@ -7,7 +7,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "login_attempts")
+@Table(name = "login_attempts", indexes = {
+        @Index(name = "idx_login_attempts_email_time", columnList = "email, tenant_slug, attempted_at"),
+        @Index(name = "idx_login_attempts_ip_time", columnList = "ip_address, attempted_at")
+})
 public class LoginAttemptJpaEntity {
 
     @Id
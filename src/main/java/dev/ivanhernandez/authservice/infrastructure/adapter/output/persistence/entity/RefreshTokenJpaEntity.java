@@ -7,7 +7,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id")
+})
 public class RefreshTokenJpaEntity {
 
     @Id
@@ -29,6 +31,12 @@ public class RefreshTokenJpaEntity {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "family_id")
+    private UUID familyId;
+
+    @Column(name = "consumed_at")
+    private LocalDateTime consumedAt;
+
     public RefreshTokenJpaEntity() {
     }
 
@@ -40,11 +48,13 @@ public class RefreshTokenJpaEntity {
         entity.expiresAt = token.getExpiresAt();
         entity.revoked = token.isRevoked();
         entity.createdAt = token.getCreatedAt();
+        entity.familyId = token.getFamilyId();
+        entity.consumedAt = token.getConsumedAt();
         return entity;
     }
 
     public RefreshToken toDomain() {
-        return new RefreshToken(id, userId, tokenHash, expiresAt, revoked, createdAt);
+        return new RefreshToken(id, userId, tokenHash, expiresAt, revoked, createdAt, familyId, consumedAt);
     }
 
     public UUID getId() {
@@ -94,4 +104,20 @@ public class RefreshTokenJpaEntity {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public UUID getFamilyId() {
+        return familyId;
+    }
+
+    public void setFamilyId(UUID familyId) {
+        this.familyId = familyId;
+    }
+
+    public LocalDateTime getConsumedAt() {
+        return consumedAt;
+    }
+
+    public void setConsumedAt(LocalDateTime consumedAt) {
+        this.consumedAt = consumedAt;
+    }
 }
@@ -5,7 +5,6 @@ import dev.ivanhernandez.authservice.domain.model.User;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
@@ -41,11 +40,8 @@ public class UserJpaEntity {
     @Column(nullable = false)
     private boolean enabled;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
-    @Column(name = "role")
-    @Enumerated(EnumType.STRING)
-    private Set<Role> roles = new HashSet<>();
+    @Column(name = "roles", nullable = false)
+    private int roles;
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
@@ -66,7 +62,7 @@ public class UserJpaEntity {
         entity.lastName = user.getLastName();
         entity.emailVerified = user.isEmailVerified();
         entity.enabled = user.isEnabled();
-        entity.roles = new HashSet<>(user.getRoles());
+        entity.roles = Role.toMask(user.getRoles());
         entity.createdAt = user.getCreatedAt();
         entity.updatedAt = user.getUpdatedAt();
         return entity;
@@ -82,7 +78,7 @@ public class UserJpaEntity {
                 lastName,
                 emailVerified,
                 enabled,
-                new HashSet<>(roles),
+                Role.fromMask(roles),
                 createdAt,
                 updatedAt
         );
@@ -153,11 +149,11 @@ public class UserJpaEntity {
     }
 
     public Set<Role> getRoles() {
-        return roles;
+        return Role.fromMask(roles);
     }
 
     public void setRoles(Set<Role> roles) {
-        this.roles = roles;
+        this.roles = Role.toMask(roles);
     }
 
     public LocalDateTime getCreatedAt() {
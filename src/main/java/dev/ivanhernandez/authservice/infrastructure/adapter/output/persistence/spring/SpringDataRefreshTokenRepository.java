@@ -18,6 +18,17 @@ public interface SpringDataRefreshTokenRepository extends JpaRepository<RefreshT
     @Query("UPDATE RefreshTokenJpaEntity t SET t.revoked = true WHERE t.tokenHash = :tokenHash")
     void revokeByTokenHash(@Param("tokenHash") String tokenHash);
 
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE RefreshTokenJpaEntity t SET t.consumedAt = :now
+            WHERE t.id = :id AND t.consumedAt IS NULL AND t.revoked = false AND t.expiresAt > :now
+            """)
+    int consume(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshTokenJpaEntity t SET t.revoked = true WHERE t.familyId = :familyId OR t.id = :familyId")
+    void revokeFamily(@Param("familyId") UUID familyId);
+
     @Modifying
     @Query("UPDATE RefreshTokenJpaEntity t SET t.revoked = true WHERE t.userId = :userId")
     void revokeAllByUserId(@Param("userId") UUID userId);
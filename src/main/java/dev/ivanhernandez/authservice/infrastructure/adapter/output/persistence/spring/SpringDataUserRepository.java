@@ -1,19 +1,52 @@
 package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.spring;
 
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.entity.AuthPrincipalRow;
 import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.entity.UserJpaEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SpringDataUserRepository extends JpaRepository<UserJpaEntity, UUID> {
 
+    String AUTH_PRINCIPAL_SELECT = """
+            SELECT new dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.entity.AuthPrincipalRow(
+                u.id, u.email, u.passwordHash, u.firstName, u.lastName, u.emailVerified, u.enabled, u.createdAt,
+                t.id, t.slug, t.name, t.enabled, u.roles)
+            FROM UserJpaEntity u JOIN u.tenant t
+            """;
+
     Optional<UserJpaEntity> findByEmailAndTenantId(String email, UUID tenantId);
 
     @Query("SELECT u FROM UserJpaEntity u JOIN u.tenant t WHERE u.email = :email AND t.slug = :tenantSlug")
     Optional<UserJpaEntity> findByEmailAndTenantSlug(@Param("email") String email, @Param("tenantSlug") String tenantSlug);
 
+    @Query(AUTH_PRINCIPAL_SELECT + "WHERE u.email = :email AND t.slug = :tenantSlug")
+    Optional<AuthPrincipalRow> findAuthPrincipalByEmailAndTenantSlug(@Param("email") String email,
+                                                                     @Param("tenantSlug") String tenantSlug);
+
+    @Query(AUTH_PRINCIPAL_SELECT + "WHERE u.id = :id")
+    Optional<AuthPrincipalRow> findAuthPrincipalById(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE UserJpaEntity u SET u.passwordHash = :newHash, u.updatedAt = :updatedAt
+            WHERE u.id = :id AND u.passwordHash = :expectedHash
+            """)
+    int updatePasswordHash(@Param("id") UUID id,
+                           @Param("expectedHash") String expectedHash,
+                           @Param("newHash") String newHash,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserJpaEntity u SET u.passwordHash = :upgradedHash WHERE u.id = :id AND u.passwordHash = :expectedHash")
+    int rehashPassword(@Param("id") UUID id,
+                       @Param("expectedHash") String expectedHash,
+                       @Param("upgradedHash") String upgradedHash);
+
     boolean existsByEmailAndTenantId(String email, UUID tenantId);
 }
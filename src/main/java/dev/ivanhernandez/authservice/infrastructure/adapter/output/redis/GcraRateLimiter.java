@@ -0,0 +1,137 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.application.port.output.RateLimiter;
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+@Component
+public class GcraRateLimiter implements RateLimiter {
+
+    private final Map<StateKey, AtomicLong> theoreticalArrivals = new ConcurrentHashMap<>();
+    private final ThreadLocal<StateKey> probes = ThreadLocal.withInitial(StateKey::new);
+    private final LongSupplier nanoClock;
+
+    public GcraRateLimiter() {
+        this(System::nanoTime);
+    }
+
+    GcraRateLimiter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(RateLimitKey key, int maxAttempts, Duration window) {
+        return tryAcquire(key.scope(), key.addressHigh(), key.addressLow(), maxAttempts, window);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(String scope, long addressHigh, long addressLow,
+                                        int maxAttempts, Duration window) {
+        long windowNanos = window.toNanos();
+        long emissionInterval = windowNanos / maxAttempts;
+        StateKey probe = probes.get().set(scope, addressHigh, addressLow);
+        AtomicLong tat = theoreticalArrivals.get(probe);
+        if (tat == null) {
+            tat = theoreticalArrivals.computeIfAbsent(probe.copy(), k -> new AtomicLong(nanoClock.getAsLong()));
+        }
+
+        while (true) {
+            long now = nanoClock.getAsLong();
+            long current = tat.get();
+            long newTat = Math.max(current, now) + emissionInterval;
+            long allowAt = newTat - windowNanos;
+            if (now < allowAt) {
+                return RateLimitDecision.reject(toSecondsCeil(allowAt - now));
+            }
+            if (!tat.compareAndSet(current, newTat)) {
+                continue;
+            }
+            if (theoreticalArrivals.get(probe) == tat) {
+                return RateLimitDecision.allow();
+            }
+            AtomicLong live = theoreticalArrivals.putIfAbsent(probe.copy(), tat);
+            if (live == null) {
+                return RateLimitDecision.allow();
+            }
+            tat = live;
+        }
+    }
+
+    @Override
+    public long getTimeToReset(RateLimitKey key) {
+        AtomicLong tat = theoreticalArrivals.get(StateKey.of(key));
+        if (tat == null) {
+            return 0;
+        }
+        return Math.max(0, toSecondsCeil(tat.get() - nanoClock.getAsLong()));
+    }
+
+    @Override
+    public void reset(RateLimitKey key) {
+        theoreticalArrivals.remove(StateKey.of(key));
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        for (StateKey key : theoreticalArrivals.keySet()) {
+            theoreticalArrivals.computeIfPresent(key, (k, tat) -> tat.get() - now <= 0 ? null : tat);
+        }
+    }
+
+    public int size() {
+        return theoreticalArrivals.size();
+    }
+
+    public void clearAll() {
+        theoreticalArrivals.clear();
+    }
+
+    private static long toSecondsCeil(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static final class StateKey {
+
+        private String scope;
+        private long high;
+        private long low;
+        private int hash;
+
+        private static StateKey of(RateLimitKey key) {
+            return new StateKey().set(key.scope(), key.addressHigh(), key.addressLow());
+        }
+
+        private StateKey set(String scope, long high, long low) {
+            this.scope = scope;
+            this.high = high;
+            this.low = low;
+            this.hash = 31 * (31 * scope.hashCode() + Long.hashCode(high)) + Long.hashCode(low);
+            return this;
+        }
+
+        private StateKey copy() {
+            return new StateKey().set(scope, high, low);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof StateKey other
+                    && high == other.high && low == other.low && scope.equals(other.scope);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
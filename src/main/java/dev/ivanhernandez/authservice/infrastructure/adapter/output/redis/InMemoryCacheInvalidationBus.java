@@ -0,0 +1,30 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.application.port.output.CacheInvalidationBus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Component
+@Profile("!prod")
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String cache, String key) {
+        for (Consumer<String> listener : listeners.getOrDefault(cache, List.of())) {
+            listener.accept(key);
+        }
+    }
+
+    @Override
+    public void subscribe(String cache, Consumer<String> listener) {
+        listeners.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.application.port.output.LoginThrottle;
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.infrastructure.config.LoginThrottleConfig;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Profile("!prod")
+public class InMemoryLoginThrottle implements LoginThrottle {
+
+    private final Map<String, FailureCounter> counters = new ConcurrentHashMap<>();
+    private final LoginThrottleConfig config;
+
+    public InMemoryLoginThrottle(LoginThrottleConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    public RateLimitDecision check(String tenantSlug, String email, String ipAddress) {
+        long now = System.currentTimeMillis();
+        long lockoutMs = Math.max(
+                remainingLockout(accountKey(tenantSlug, email), config.getAccountThreshold(), now),
+                remainingLockout(ipKey(ipAddress), config.getIpThreshold(), now)
+        );
+        if (lockoutMs <= 0) {
+            return RateLimitDecision.allow();
+        }
+        return RateLimitDecision.reject(TimeUnit.MILLISECONDS.toSeconds(lockoutMs + 999));
+    }
+
+    @Override
+    public void recordFailure(String tenantSlug, String email, String ipAddress) {
+        long now = System.currentTimeMillis();
+        counters.computeIfAbsent(accountKey(tenantSlug, email), k -> new FailureCounter()).recordFailure(now, config.getWindowMs());
+        counters.computeIfAbsent(ipKey(ipAddress), k -> new FailureCounter()).recordFailure(now, config.getWindowMs());
+    }
+
+    @Override
+    public void recordSuccess(String tenantSlug, String email) {
+        counters.remove(accountKey(tenantSlug, email));
+    }
+
+    @Scheduled(fixedDelayString = "${login-throttle.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        counters.values().removeIf(counter -> counter.isIdle(now, config.getWindowMs()));
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    private long remainingLockout(String key, int threshold, long now) {
+        FailureCounter counter = counters.get(key);
+        if (counter == null) {
+            return 0;
+        }
+        synchronized (counter) {
+            long lockoutMs = config.lockoutMs(counter.failures(now, config.getWindowMs()), threshold);
+            return lockoutMs == 0 ? 0 : Math.max(0, counter.lastFailureAt + lockoutMs - now);
+        }
+    }
+
+    private static String accountKey(String tenantSlug, String email) {
+        return "account:" + tenantSlug + ":" + email.toLowerCase();
+    }
+
+    private static String ipKey(String ipAddress) {
+        return "ip:" + ipAddress;
+    }
+
+    private static final class FailureCounter {
+
+        private long start;
+        private long count;
+        private long previous;
+        private long lastFailureAt;
+
+        private synchronized void recordFailure(long now, long windowMs) {
+            roll(now, windowMs);
+            count++;
+            lastFailureAt = now;
+        }
+
+        private synchronized long failures(long now, long windowMs) {
+            roll(now, windowMs);
+            return (long) Math.floor((double) previous * (windowMs - (now - start)) / windowMs + count);
+        }
+
+        private synchronized boolean isIdle(long now, long windowMs) {
+            return now - lastFailureAt >= 2 * windowMs;
+        }
+
+        private void roll(long now, long windowMs) {
+            long currentStart = now - (now % windowMs);
+            if (start == currentStart) {
+                return;
+            }
+            previous = start == currentStart - windowMs ? count : 0;
+            count = 0;
+            start = currentStart;
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
 
 import dev.ivanhernandez.authservice.application.port.output.RateLimiter;
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
@@ -10,28 +14,31 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Component
+@Primary
 @Profile("!prod")
 public class InMemoryRateLimiter implements RateLimiter {
 
-    private final Map<String, RateLimitEntry> entries = new ConcurrentHashMap<>();
+    private final Map<RateLimitKey, RateLimitEntry> entries = new ConcurrentHashMap<>();
 
     @Override
-    public boolean isAllowed(String key, int maxAttempts, Duration window) {
+    public RateLimitDecision tryAcquire(RateLimitKey key, int maxAttempts, Duration window) {
         Instant now = Instant.now();
 
-        entries.compute(key, (k, entry) -> {
-            if (entry == null || entry.expiresAt.isBefore(now)) {
+        RateLimitEntry entry = entries.compute(key, (k, current) -> {
+            if (current == null || current.expiresAt.isBefore(now)) {
                 return new RateLimitEntry(1, now.plus(window));
             }
-            return new RateLimitEntry(entry.count + 1, entry.expiresAt);
+            return new RateLimitEntry(current.count + 1, current.expiresAt);
         });
 
-        RateLimitEntry entry = entries.get(key);
-        return entry != null && entry.count <= maxAttempts;
+        if (entry.count <= maxAttempts) {
+            return RateLimitDecision.allow();
+        }
+        return RateLimitDecision.reject(Duration.between(now, entry.expiresAt).toSeconds());
     }
 
     @Override
-    public long getTimeToReset(String key) {
+    public long getTimeToReset(RateLimitKey key) {
         RateLimitEntry entry = entries.get(key);
         if (entry == null) {
             return 0;
@@ -42,10 +49,16 @@ public class InMemoryRateLimiter implements RateLimiter {
     }
 
     @Override
-    public void reset(String key) {
+    public void reset(RateLimitKey key) {
         entries.remove(key);
     }
 
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        Instant now = Instant.now();
+        entries.values().removeIf(entry -> entry.expiresAt.isBefore(now));
+    }
+
     public void clearAll() {
         entries.clear();
     }
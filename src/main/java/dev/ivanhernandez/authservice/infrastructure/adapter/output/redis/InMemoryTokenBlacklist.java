@@ -1,41 +1,102 @@
 package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
 
 import dev.ivanhernandez.authservice.application.port.output.TokenBlacklist;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
 @Component
 @Profile("!prod")
 public class InMemoryTokenBlacklist implements TokenBlacklist {
 
-    private final Map<String, Instant> blacklist = new ConcurrentHashMap<>();
+    private static final long TICK_MS = 1000;
+    private static final int WHEEL_SIZE = 1024;
+
+    private final Map<String, Long> blacklist = new ConcurrentHashMap<>();
+    private final List<Queue<Expiry>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final RevocationBloomFilter bloomFilter;
+    private final LongSupplier clock;
+    private volatile long sweptTick;
+
+    @Autowired
+    public InMemoryTokenBlacklist(RevocationBloomFilter bloomFilter) {
+        this(bloomFilter, System::currentTimeMillis);
+    }
+
+    InMemoryTokenBlacklist(RevocationBloomFilter bloomFilter, LongSupplier clock) {
+        this.bloomFilter = bloomFilter;
+        this.clock = clock;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ConcurrentLinkedQueue<>());
+        }
+        this.sweptTick = clock.getAsLong() / TICK_MS;
+    }
 
     @Override
     public void blacklist(String tokenId, long expirationSeconds) {
-        Instant expiresAt = Instant.now().plusSeconds(expirationSeconds);
-        blacklist.put(tokenId, expiresAt);
-        cleanupExpired();
+        long expiresAt = clock.getAsLong() + TimeUnit.SECONDS.toMillis(expirationSeconds);
+        blacklist.merge(tokenId, expiresAt, Math::max);
+        bloomFilter.add(tokenId, expiresAt);
+
+        long tick = Math.max(expiresAt / TICK_MS + 1, sweptTick + 1);
+        slot(tick).add(new Expiry(tokenId, expiresAt));
     }
 
     @Override
     public boolean isBlacklisted(String tokenId) {
-        Instant expiresAt = blacklist.get(tokenId);
-        if (expiresAt == null) {
+        if (!bloomFilter.mightContain(tokenId)) {
             return false;
         }
-        if (expiresAt.isBefore(Instant.now())) {
-            blacklist.remove(tokenId);
+
+        Long expiresAt = blacklist.get(tokenId);
+        if (expiresAt == null) {
             return false;
         }
-        return true;
+        return expiresAt > clock.getAsLong();
+    }
+
+    @Scheduled(fixedDelayString = "${token-blacklist.sweep-interval-ms:1000}")
+    public synchronized void sweep() {
+        long now = clock.getAsLong();
+        long currentTick = now / TICK_MS;
+        long firstTick = Math.max(sweptTick + 1, currentTick - WHEEL_SIZE + 1);
+
+        for (long tick = firstTick; tick <= currentTick; tick++) {
+            Queue<Expiry> slot = slot(tick);
+            List<Expiry> due = new ArrayList<>();
+            Expiry expiry;
+            while ((expiry = slot.poll()) != null) {
+                due.add(expiry);
+            }
+            for (Expiry entry : due) {
+                if (entry.expiresAt() <= now) {
+                    blacklist.remove(entry.tokenId(), entry.expiresAt());
+                } else {
+                    slot.add(entry);
+                }
+            }
+        }
+        sweptTick = currentTick;
+    }
+
+    public int size() {
+        return blacklist.size();
+    }
+
+    private Queue<Expiry> slot(long tick) {
+        return wheel.get((int) Math.floorMod(tick, (long) WHEEL_SIZE));
     }
 
-    private void cleanupExpired() {
-        Instant now = Instant.now();
-        blacklist.entrySet().removeIf(entry -> entry.getValue().isBefore(now));
+    private record Expiry(String tokenId, long expiresAt) {
     }
 }
@@ -0,0 +1,201 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.application.port.output.RateLimiter;
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Profile("prod")
+public class LeasedRateLimiter implements RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(LeasedRateLimiter.class);
+
+    private final Map<RateLimitKey, Lease> leases = new ConcurrentHashMap<>();
+    private final RedisRateLimiter redisRateLimiter;
+    private final Executor executor;
+    private final double slack;
+    private final int nodes;
+    private final int maxLeaseSize;
+    private final long leaseTtlNanos;
+
+    public LeasedRateLimiter(
+            RedisRateLimiter redisRateLimiter,
+            @Qualifier("applicationTaskExecutor") Executor executor,
+            @Value("${rate-limit.lease.slack:0.1}") double slack,
+            @Value("${rate-limit.lease.nodes:1}") int nodes,
+            @Value("${rate-limit.lease.max-size:20}") int maxLeaseSize,
+            @Value("${rate-limit.lease.ttl-ms:1000}") long leaseTtlMs) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.executor = executor;
+        this.slack = slack;
+        this.nodes = Math.max(1, nodes);
+        this.maxLeaseSize = maxLeaseSize;
+        this.leaseTtlNanos = TimeUnit.MILLISECONDS.toNanos(leaseTtlMs);
+    }
+
+    @Override
+    public RateLimitDecision tryAcquire(RateLimitKey key, int maxAttempts, Duration window) {
+        int size = leaseSize(maxAttempts);
+        if (size <= 1) {
+            return redisRateLimiter.tryAcquire(key, maxAttempts, window);
+        }
+
+        long now = System.nanoTime();
+        Lease lease = leases.get(key);
+        if (lease != null) {
+            if (now - lease.expiresAt < 0 && lease.take()) {
+                if (lease.permits.get() <= lease.size / 2 && now - lease.deniedUntil >= 0) {
+                    renewAsync(key, lease, maxAttempts, window);
+                }
+                return RateLimitDecision.allow();
+            }
+            if (now - lease.deniedUntil < 0) {
+                return RateLimitDecision.reject(toSecondsCeil(lease.deniedUntil - now));
+            }
+        }
+        return acquire(key, maxAttempts, window, size, now);
+    }
+
+    @Override
+    public long getTimeToReset(RateLimitKey key) {
+        return redisRateLimiter.getTimeToReset(key);
+    }
+
+    @Override
+    public void reset(RateLimitKey key) {
+        leases.remove(key);
+        redisRateLimiter.reset(key);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.lease.ttl-ms:1000}")
+    public void releaseExpired() {
+        long now = System.nanoTime();
+        leases.forEach((key, lease) -> {
+            if (now - lease.expiresAt >= 0 && now - lease.deniedUntil >= 0 && leases.remove(key, lease)) {
+                release(key, lease);
+            }
+        });
+    }
+
+    public int size() {
+        return leases.size();
+    }
+
+    int leaseSize(int maxAttempts) {
+        return Math.min(maxLeaseSize, (int) (maxAttempts * slack / nodes));
+    }
+
+    private RateLimitDecision acquire(RateLimitKey key, int maxAttempts, Duration window, int size, long now) {
+        RedisRateLimiter.PermitGrant grant = redisRateLimiter.leasePermits(key, maxAttempts, window, size);
+
+        Lease fresh = grant.granted() > 0
+                ? new Lease(size, grant.granted() - 1, now + leaseTtlNanos, now)
+                : new Lease(size, 0, now, now + TimeUnit.MILLISECONDS.toNanos(grant.retryAfterMs()));
+
+        Lease previous = leases.put(key, fresh);
+        if (previous != null) {
+            release(key, previous);
+        }
+
+        if (grant.granted() > 0) {
+            return RateLimitDecision.allow();
+        }
+        return RateLimitDecision.reject(toSecondsCeil(fresh.deniedUntil - now));
+    }
+
+    private void renewAsync(RateLimitKey key, Lease lease, int maxAttempts, Duration window) {
+        if (!lease.renewing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> renew(key, lease, maxAttempts, window));
+        } catch (RejectedExecutionException e) {
+            lease.renewing.set(false);
+        }
+    }
+
+    private void renew(RateLimitKey key, Lease lease, int maxAttempts, Duration window) {
+        try {
+            RedisRateLimiter.PermitGrant grant = redisRateLimiter.leasePermits(key, maxAttempts, window, lease.size);
+            long now = System.nanoTime();
+            if (grant.granted() > 0) {
+                lease.permits.addAndGet(grant.granted());
+                lease.expiresAt = now + leaseTtlNanos;
+            } else {
+                lease.deniedUntil = now + TimeUnit.MILLISECONDS.toNanos(grant.retryAfterMs());
+            }
+            if (leases.get(key) != lease) {
+                release(key, lease);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to renew rate limit lease for {}", key.asString(), e);
+        } finally {
+            lease.renewing.set(false);
+        }
+    }
+
+    private void release(RateLimitKey key, Lease lease) {
+        int unused = lease.permits.getAndSet(0);
+        if (unused <= 0) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    redisRateLimiter.returnPermits(key, unused);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to return {} leased permits for {}", unused, key.asString(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Dropped {} leased permits for {}", unused, key.asString());
+        }
+    }
+
+    private static long toSecondsCeil(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static final class Lease {
+
+        private final int size;
+        private final AtomicInteger permits;
+        private final AtomicBoolean renewing = new AtomicBoolean();
+        private volatile long expiresAt;
+        private volatile long deniedUntil;
+
+        private Lease(int size, int permits, long expiresAt, long deniedUntil) {
+            this.size = size;
+            this.permits = new AtomicInteger(permits);
+            this.expiresAt = expiresAt;
+            this.deniedUntil = deniedUntil;
+        }
+
+        private boolean take() {
+            int current;
+            do {
+                current = permits.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!permits.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.application.port.output.CacheInvalidationBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Component
+@Profile("prod")
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, MessageListener {
+
+    public static final String CHANNEL = "cache_invalidation:events";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void publish(String cache, String key) {
+        dispatch(cache, key);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, cache + ":" + key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to broadcast invalidation of {} entry {}, other nodes will expire it by TTL",
+                    cache, key, e);
+        }
+    }
+
+    @Override
+    public void subscribe(String cache, Consumer<String> listener) {
+        listeners.computeIfAbsent(cache, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            log.warn("Ignoring malformed cache invalidation event: {}", body);
+            return;
+        }
+        dispatch(body.substring(0, separator), body.substring(separator + 1));
+    }
+
+    private void dispatch(String cache, String key) {
+        for (Consumer<String> listener : listeners.getOrDefault(cache, List.of())) {
+            listener.accept(key);
+        }
+    }
+}
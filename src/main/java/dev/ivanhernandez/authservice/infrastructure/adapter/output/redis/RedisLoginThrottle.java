@@ -0,0 +1,71 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.application.port.output.LoginThrottle;
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.infrastructure.config.LoginThrottleConfig;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Profile("prod")
+public class RedisLoginThrottle implements LoginThrottle {
+
+    private static final String LOGIN_THROTTLE_PREFIX = "login_throttle:";
+    private static final String CHECK = "0";
+    private static final String FAIL = "1";
+
+    private static final RedisScript<Long> LOGIN_THROTTLE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/login_throttle.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LoginThrottleConfig config;
+
+    public RedisLoginThrottle(StringRedisTemplate redisTemplate, LoginThrottleConfig config) {
+        this.redisTemplate = redisTemplate;
+        this.config = config;
+    }
+
+    @Override
+    public RateLimitDecision check(String tenantSlug, String email, String ipAddress) {
+        long lockoutMs = Math.max(
+                execute(accountKey(tenantSlug, email), CHECK, config.getAccountThreshold()),
+                execute(ipKey(ipAddress), CHECK, config.getIpThreshold())
+        );
+        if (lockoutMs <= 0) {
+            return RateLimitDecision.allow();
+        }
+        return RateLimitDecision.reject(TimeUnit.MILLISECONDS.toSeconds(lockoutMs + 999));
+    }
+
+    @Override
+    public void recordFailure(String tenantSlug, String email, String ipAddress) {
+        execute(accountKey(tenantSlug, email), FAIL, config.getAccountThreshold());
+        execute(ipKey(ipAddress), FAIL, config.getIpThreshold());
+    }
+
+    @Override
+    public void recordSuccess(String tenantSlug, String email) {
+        redisTemplate.delete(accountKey(tenantSlug, email));
+    }
+
+    private long execute(String key, String mode, int threshold) {
+        Long remaining = redisTemplate.execute(LOGIN_THROTTLE_SCRIPT, List.of(key),
+                String.valueOf(config.getWindowMs()), mode, String.valueOf(threshold),
+                String.valueOf(config.getBaseLockoutMs()), String.valueOf(config.getMaxLockoutMs()));
+        return remaining == null ? 0 : remaining;
+    }
+
+    private static String accountKey(String tenantSlug, String email) {
+        return LOGIN_THROTTLE_PREFIX + "account:" + tenantSlug + ":" + email.toLowerCase();
+    }
+
+    private static String ipKey(String ipAddress) {
+        return LOGIN_THROTTLE_PREFIX + "ip:" + ipAddress;
+    }
+}
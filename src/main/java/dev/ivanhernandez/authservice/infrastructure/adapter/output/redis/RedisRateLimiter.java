@@ -1,18 +1,33 @@
 package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
 
 import dev.ivanhernandez.authservice.application.port.output.RateLimiter;
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Component
+@Primary
 @Profile("prod")
 public class RedisRateLimiter implements RateLimiter {
 
     private static final String RATE_LIMIT_PREFIX = "rate_limit:";
+    private static final String PEEK = "0";
+    private static final String ACQUIRE = "1";
+    private static final String PARTIAL = "1";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SLIDING_WINDOW_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/sliding_window_rate_limit.lua"), List.class);
 
     private final StringRedisTemplate redisTemplate;
 
@@ -21,32 +36,51 @@ public class RedisRateLimiter implements RateLimiter {
     }
 
     @Override
-    public boolean isAllowed(String key, int maxAttempts, Duration window) {
-        String redisKey = RATE_LIMIT_PREFIX + key;
+    public RateLimitDecision tryAcquire(RateLimitKey key, int maxAttempts, Duration window) {
+        return execute(key, String.valueOf(maxAttempts), String.valueOf(window.toMillis()), ACQUIRE);
+    }
 
-        Long currentCount = redisTemplate.opsForValue().increment(redisKey);
+    @Override
+    public long getTimeToReset(RateLimitKey key) {
+        return execute(key, "", "", PEEK).retryAfterSeconds();
+    }
 
-        if (currentCount == null) {
-            return true;
-        }
+    @Override
+    public void reset(RateLimitKey key) {
+        String redisKey = RATE_LIMIT_PREFIX + key.asString();
+        redisTemplate.delete(redisKey);
+    }
 
-        if (currentCount == 1) {
-            redisTemplate.expire(redisKey, window.toSeconds(), TimeUnit.SECONDS);
+    public PermitGrant leasePermits(RateLimitKey key, int maxAttempts, Duration window, int permits) {
+        String redisKey = RATE_LIMIT_PREFIX + key.asString();
+        List<?> result = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(redisKey),
+                String.valueOf(maxAttempts), String.valueOf(window.toMillis()), String.valueOf(permits), PARTIAL);
+
+        if (result == null || result.size() < 2) {
+            return new PermitGrant(permits, 0);
         }
+        return new PermitGrant(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue());
+    }
 
-        return currentCount <= maxAttempts;
+    public void returnPermits(RateLimitKey key, int permits) {
+        String redisKey = RATE_LIMIT_PREFIX + key.asString();
+        redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(redisKey), "", "", String.valueOf(-permits));
     }
 
-    @Override
-    public long getTimeToReset(String key) {
-        String redisKey = RATE_LIMIT_PREFIX + key;
-        Long ttl = redisTemplate.getExpire(redisKey, TimeUnit.SECONDS);
-        return ttl != null && ttl > 0 ? ttl : 0;
+    private RateLimitDecision execute(RateLimitKey key, String maxAttempts, String windowMs, String cost) {
+        String redisKey = RATE_LIMIT_PREFIX + key.asString();
+        List<?> result = redisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(redisKey), maxAttempts, windowMs, cost);
+
+        if (result == null || result.size() < 2) {
+            return RateLimitDecision.allow();
+        }
+        if (((Number) result.get(0)).longValue() >= 1) {
+            return RateLimitDecision.allow();
+        }
+        long retryAfterMs = ((Number) result.get(1)).longValue();
+        return RateLimitDecision.reject(TimeUnit.MILLISECONDS.toSeconds(retryAfterMs + 999));
     }
 
-    @Override
-    public void reset(String key) {
-        String redisKey = RATE_LIMIT_PREFIX + key;
-        redisTemplate.delete(redisKey);
+    public record PermitGrant(int granted, long retryAfterMs) {
     }
 }
@@ -1,33 +1,139 @@
 package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
 
 import dev.ivanhernandez.authservice.application.port.output.TokenBlacklist;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 @Component
 @Profile("prod")
-public class RedisTokenBlacklist implements TokenBlacklist {
+public class RedisTokenBlacklist implements TokenBlacklist, MessageListener {
+
+    public static final String CHANNEL = "token_blacklist:events";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisTokenBlacklist.class);
 
     private static final String BLACKLIST_PREFIX = "token_blacklist:";
+    private static final int SCAN_BATCH_SIZE = 500;
 
     private final StringRedisTemplate redisTemplate;
+    private final RevocationBloomFilter bloomFilter;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile boolean synced;
 
-    public RedisTokenBlacklist(StringRedisTemplate redisTemplate) {
+    public RedisTokenBlacklist(StringRedisTemplate redisTemplate, RevocationBloomFilter bloomFilter) {
         this.redisTemplate = redisTemplate;
+        this.bloomFilter = bloomFilter;
     }
 
     @Override
     public void blacklist(String tokenId, long expirationSeconds) {
         String key = BLACKLIST_PREFIX + tokenId;
+        long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(expirationSeconds);
+
         redisTemplate.opsForValue().set(key, "1", expirationSeconds, TimeUnit.SECONDS);
+        revoke(tokenId, expiresAt);
+        redisTemplate.convertAndSend(CHANNEL, expiresAt + ":" + tokenId);
     }
 
     @Override
     public boolean isBlacklisted(String tokenId) {
-        String key = BLACKLIST_PREFIX + tokenId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        if (!synced) {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + tokenId));
+        }
+        if (!bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+
+        Long expiresAt = revoked.get(tokenId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= System.currentTimeMillis()) {
+            revoked.remove(tokenId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator <= 0) {
+            return;
+        }
+        try {
+            revoke(body.substring(separator + 1), Long.parseLong(body.substring(0, separator)));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token blacklist event: {}", body);
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${token-blacklist.resync-interval-ms:60000}")
+    public void resync() {
+        try {
+            long now = System.currentTimeMillis();
+            List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(BLACKLIST_PREFIX + "*")
+                    .count(SCAN_BATCH_SIZE)
+                    .build();
+
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() == SCAN_BATCH_SIZE) {
+                        loadBatch(keys, now);
+                        keys.clear();
+                    }
+                }
+            }
+            loadBatch(keys, now);
+
+            revoked.values().removeIf(expiresAt -> expiresAt <= now);
+            synced = true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to resync token blacklist from Redis: {}", e.getMessage());
+        }
+    }
+
+    private void loadBatch(List<String> keys, long now) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (ttls.get(i) instanceof Long ttl && ttl > 0) {
+                revoke(keys.get(i).substring(BLACKLIST_PREFIX.length()), now + ttl);
+            }
+        }
+    }
+
+    private void revoke(String tokenId, long expiresAt) {
+        revoked.merge(tokenId, expiresAt, Math::max);
+        bloomFilter.add(tokenId, expiresAt);
     }
 }
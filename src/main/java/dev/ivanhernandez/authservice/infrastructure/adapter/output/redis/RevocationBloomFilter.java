@@ -0,0 +1,172 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+@Component
+public class RevocationBloomFilter implements MeterBinder {
+
+    private final Bucket[] buckets;
+    private final long bucketWidthMs;
+    private final int bitCount;
+    private final int hashCount;
+    private final LongAdder negatives = new LongAdder();
+    private final LongSupplier clock;
+
+    @Autowired
+    public RevocationBloomFilter(
+            @Value("${token-blacklist.bloom.expected-insertions:100000}") int expectedInsertions,
+            @Value("${token-blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+            @Value("${token-blacklist.bloom.bucket-width-ms:60000}") long bucketWidthMs,
+            @Value("${jwt.access-token-expiration-ms:900000}") long maxTokenLifetimeMs) {
+        this(expectedInsertions, falsePositiveRate, bucketWidthMs, maxTokenLifetimeMs, System::currentTimeMillis);
+    }
+
+    RevocationBloomFilter(int expectedInsertions, double falsePositiveRate, long bucketWidthMs,
+                          long maxTokenLifetimeMs, LongSupplier clock) {
+        this.clock = clock;
+        int bucketCount = (int) Math.max(1, (maxTokenLifetimeMs + bucketWidthMs - 1) / bucketWidthMs) + 1;
+        double bucketInsertions = Math.max(1.0, (double) expectedInsertions / bucketCount);
+        double bucketFalsePositiveRate = falsePositiveRate / bucketCount;
+
+        this.bucketWidthMs = bucketWidthMs;
+        this.bitCount = (int) Math.ceil(-bucketInsertions * Math.log(bucketFalsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.hashCount = Math.max(1, (int) Math.round(bitCount / bucketInsertions * Math.log(2)));
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket((bitCount + 63) / 64);
+        }
+    }
+
+    public void add(String tokenId, long expiresAtMs) {
+        long now = clock.getAsLong();
+        if (expiresAtMs <= now) {
+            return;
+        }
+
+        long hash = hash(tokenId);
+        Bucket bucket = buckets[(int) Math.floorMod(expiresAtMs / bucketWidthMs, (long) buckets.length)];
+        synchronized (bucket) {
+            if (bucket.retainUntil <= now) {
+                bucket.clear();
+            }
+            bucket.retainUntil = Math.max(bucket.retainUntil, expiresAtMs);
+            bucket.insertions++;
+            for (int i = 0; i < hashCount; i++) {
+                bucket.set(index(hash, i));
+            }
+        }
+    }
+
+    public boolean mightContain(String tokenId) {
+        long now = clock.getAsLong();
+        long hash = hash(tokenId);
+        for (Bucket bucket : buckets) {
+            if (bucket.retainUntil > now && contains(bucket, hash)) {
+                return true;
+            }
+        }
+        negatives.increment();
+        return false;
+    }
+
+    public double getExpectedFalsePositiveRate() {
+        long now = clock.getAsLong();
+        double allNegative = 1.0;
+        for (Bucket bucket : buckets) {
+            if (bucket.retainUntil > now) {
+                double fillRatio = 1.0 - Math.exp(-(double) hashCount * bucket.insertions / bitCount);
+                allNegative *= 1.0 - Math.pow(fillRatio, hashCount);
+            }
+        }
+        return 1.0 - allNegative;
+    }
+
+    public long getMemoryBytes() {
+        return (long) buckets.length * ((bitCount + 63) / 64) * Long.BYTES;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("token.blacklist.bloom.false.positive.rate", this, RevocationBloomFilter::getExpectedFalsePositiveRate)
+                .description("Expected false-positive rate of the revoked-token pre-filter")
+                .register(registry);
+        Gauge.builder("token.blacklist.bloom.memory", this, RevocationBloomFilter::getMemoryBytes)
+                .baseUnit("bytes")
+                .description("Memory held by the revoked-token pre-filter bit arrays")
+                .register(registry);
+        FunctionCounter.builder("token.blacklist.bloom.negatives", negatives, LongAdder::sum)
+                .description("Blacklist lookups answered by the pre-filter without touching the backing store")
+                .register(registry);
+    }
+
+    private boolean contains(Bucket bucket, long hash) {
+        for (int i = 0; i < hashCount; i++) {
+            if (!bucket.isSet(index(hash, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long hash, int i) {
+        int high = (int) (hash >>> 32);
+        int low = (int) hash;
+        return Math.floorMod(low + i * (high | 1), bitCount);
+    }
+
+    private static long hash(String tokenId) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : tokenId.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLongArray bits;
+        private volatile long retainUntil;
+        private long insertions;
+
+        private Bucket(int words) {
+            this.bits = new AtomicLongArray(words);
+        }
+
+        private void set(int bit) {
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+
+        private boolean isSet(int bit) {
+            return (bits.get(bit >>> 6) & (1L << bit)) != 0;
+        }
+
+        private void clear() {
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, 0);
+            }
+            insertions = 0;
+        }
+    }
+}
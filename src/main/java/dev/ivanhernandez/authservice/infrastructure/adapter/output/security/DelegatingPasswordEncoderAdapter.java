@@ -0,0 +1,108 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.application.port.output.PasswordEncoder;
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig;
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig.HashingParameters;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class DelegatingPasswordEncoderAdapter implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    private static final Pattern ARGON2ID_PREFIX = Pattern.compile("^\\$argon2id\\$v=(\\d+)\\$m=(\\d+),t=(\\d+),p=(\\d+)\\$");
+    private static final int ARGON2_VERSION = 19;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    private final Map<HashingParameters, org.springframework.security.crypto.password.PasswordEncoder> encoders =
+            new ConcurrentHashMap<>();
+    private final BCryptPasswordEncoder bcryptVerifier = new BCryptPasswordEncoder();
+    private final Argon2PasswordEncoder argon2Verifier = Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    private final PasswordHashingConfig config;
+    private final PasswordHashingExecutor hashingExecutor;
+
+    public DelegatingPasswordEncoderAdapter(PasswordHashingConfig config, PasswordHashingExecutor hashingExecutor) {
+        this.config = config;
+        this.hashingExecutor = hashingExecutor;
+    }
+
+    @Override
+    public String encode(String rawPassword) {
+        return encode(null, rawPassword);
+    }
+
+    @Override
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return matches(null, rawPassword, encodedPassword);
+    }
+
+    @Override
+    public String encode(UUID tenantId, String rawPassword) {
+        org.springframework.security.crypto.password.PasswordEncoder encoder =
+                encoders.computeIfAbsent(parameters(tenantId), DelegatingPasswordEncoderAdapter::createEncoder);
+        return hashingExecutor.execute(tenantId, () -> encoder.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(UUID tenantId, String rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        org.springframework.security.crypto.password.PasswordEncoder verifier;
+        if (BCRYPT_PREFIX.matcher(encodedPassword).find()) {
+            verifier = bcryptVerifier;
+        } else if (ARGON2ID_PREFIX.matcher(encodedPassword).find()) {
+            verifier = argon2Verifier;
+        } else {
+            return false;
+        }
+        return hashingExecutor.execute(tenantId, () -> verifier.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean needsRehash(UUID tenantId, String encodedPassword) {
+        if (encodedPassword == null) {
+            return true;
+        }
+        HashingParameters target = parameters(tenantId);
+        return switch (target.algorithm()) {
+            case BCRYPT -> {
+                Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+                yield !matcher.find() || Integer.parseInt(matcher.group(1)) < target.bcryptStrength();
+            }
+            case ARGON2ID -> {
+                Matcher matcher = ARGON2ID_PREFIX.matcher(encodedPassword);
+                yield !matcher.find()
+                        || Integer.parseInt(matcher.group(1)) != ARGON2_VERSION
+                        || Integer.parseInt(matcher.group(2)) < target.argon2MemoryKib()
+                        || Integer.parseInt(matcher.group(3)) < target.argon2Iterations()
+                        || Integer.parseInt(matcher.group(4)) < target.argon2Parallelism();
+            }
+        };
+    }
+
+    private HashingParameters parameters(UUID tenantId) {
+        return config.getParameters(tenantId == null ? null : tenantId.toString());
+    }
+
+    static org.springframework.security.crypto.password.PasswordEncoder createEncoder(HashingParameters parameters) {
+        return switch (parameters.algorithm()) {
+            case BCRYPT -> new BCryptPasswordEncoder(parameters.bcryptStrength());
+            case ARGON2ID -> new Argon2PasswordEncoder(
+                    ARGON2_SALT_LENGTH,
+                    ARGON2_HASH_LENGTH,
+                    parameters.argon2Parallelism(),
+                    parameters.argon2MemoryKib(),
+                    parameters.argon2Iterations()
+            );
+        };
+    }
+}
@@ -0,0 +1,159 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.infrastructure.config.JwtKeyRingConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Component
+public class JwtKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private static final String PUBLIC_KEY_SUFFIX = ".pub.pem";
+    private static final String PRIVATE_KEY_SUFFIX = ".key.pem";
+    private static final String SECRET_SUFFIX = ".secret";
+    private static final String ACTIVE_FILE = "active";
+
+    private final JwtSigningKey configuredKey;
+    private final List<JwtSigningKey> previousKeys;
+    private final Path directory;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private volatile Snapshot snapshot;
+
+    public JwtKeyRing(JwtSigningKey configuredKey,
+                      JwtKeyRingConfig config,
+                      VerifiedTokenCache verifiedTokenCache) {
+        this.configuredKey = configuredKey;
+        this.previousKeys = config.getPreviousSecrets().stream()
+                .filter(StringUtils::hasText)
+                .map(secret -> JwtSigningKey.hmac(hmacAlgorithm(), secret))
+                .toList();
+        this.directory = StringUtils.hasText(config.getDirectory()) ? Path.of(config.getDirectory()) : null;
+        this.verifiedTokenCache = verifiedTokenCache;
+        try {
+            this.snapshot = loadSnapshot();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load JWT keys from " + directory, e);
+        }
+    }
+
+    public static Optional<JwtSigningKey> readActiveKey(Path directory) throws IOException {
+        Path activeFile = directory.resolve(ACTIVE_FILE);
+        if (!Files.exists(activeFile)) {
+            return Optional.empty();
+        }
+        String activeName = Files.readString(activeFile).strip();
+        Path privateKeyFile = directory.resolve(activeName + PRIVATE_KEY_SUFFIX);
+        Path publicKeyFile = directory.resolve(activeName + PUBLIC_KEY_SUFFIX);
+        if (!Files.exists(privateKeyFile) || !Files.exists(publicKeyFile)) {
+            throw new IllegalStateException("Active JWT key '" + activeName + "' has no key pair in " + directory);
+        }
+        return Optional.of(JwtSigningKey.fromPem(Files.readString(privateKeyFile), Files.readString(publicKeyFile)));
+    }
+
+    public JwtSigningKey getActiveKey() {
+        return snapshot.active();
+    }
+
+    public JwtSigningKey findKey(String keyId) {
+        return snapshot.keys().get(keyId);
+    }
+
+    public Collection<JwtSigningKey> getKeys() {
+        return snapshot.keys().values();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.keys.reload-interval-ms:60000}",
+            initialDelayString = "${jwt.keys.reload-interval-ms:60000}")
+    public void reload() {
+        if (directory == null) {
+            return;
+        }
+
+        Snapshot next;
+        try {
+            next = loadSnapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to reload JWT keys from {}, keeping current key ring: {}", directory, e.getMessage());
+            return;
+        }
+
+        Snapshot previous = snapshot;
+        snapshot = next;
+
+        if (!next.keys().keySet().containsAll(previous.keys().keySet())) {
+            verifiedTokenCache.clear();
+        }
+        if (!next.equals(previous)) {
+            log.info("JWT key ring reloaded: active key {}, {} verification keys",
+                    next.active().keyId(), next.keys().size());
+        }
+    }
+
+    private Snapshot loadSnapshot() throws IOException {
+        Map<String, JwtSigningKey> keys = new LinkedHashMap<>();
+        keys.put(configuredKey.keyId(), configuredKey);
+        previousKeys.forEach(key -> keys.putIfAbsent(key.keyId(), key));
+
+        JwtSigningKey active = configuredKey;
+        if (directory != null) {
+            Map<String, JwtSigningKey> directoryKeys = loadDirectory();
+            directoryKeys.values().forEach(key -> keys.putIfAbsent(key.keyId(), key));
+
+            Path activeFile = directory.resolve(ACTIVE_FILE);
+            if (Files.exists(activeFile)) {
+                String activeName = Files.readString(activeFile).strip();
+                active = directoryKeys.get(activeName);
+                if (active == null || !active.canSign()) {
+                    throw new IllegalStateException("Active JWT key '" + activeName + "' has no private key in " + directory);
+                }
+            }
+        }
+
+        return new Snapshot(active, Map.copyOf(keys));
+    }
+
+    private Map<String, JwtSigningKey> loadDirectory() throws IOException {
+        Map<String, JwtSigningKey> keysByName = new LinkedHashMap<>();
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.sorted().toList();
+        }
+
+        for (Path file : files) {
+            String fileName = file.getFileName().toString();
+            if (fileName.endsWith(PUBLIC_KEY_SUFFIX)) {
+                String name = fileName.substring(0, fileName.length() - PUBLIC_KEY_SUFFIX.length());
+                Path privateKeyFile = directory.resolve(name + PRIVATE_KEY_SUFFIX);
+                String privateKeyPem = Files.exists(privateKeyFile) ? Files.readString(privateKeyFile) : null;
+                keysByName.put(name, JwtSigningKey.fromPem(privateKeyPem, Files.readString(file)));
+            } else if (fileName.endsWith(SECRET_SUFFIX)) {
+                String name = fileName.substring(0, fileName.length() - SECRET_SUFFIX.length());
+                keysByName.put(name, JwtSigningKey.hmac(hmacAlgorithm(), Files.readString(file).strip()));
+            }
+        }
+        return keysByName;
+    }
+
+    private String hmacAlgorithm() {
+        return configuredKey.isSymmetric() ? configuredKey.algorithm() : "HS256";
+    }
+
+    private record Snapshot(JwtSigningKey active, Map<String, JwtSigningKey> keys) {
+    }
+}
@@ -1,115 +1,153 @@
 package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
 
 import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
 import dev.ivanhernandez.authservice.domain.model.Role;
 import dev.ivanhernandez.authservice.domain.model.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
 public class JwtProviderImpl implements JwtProvider {
 
-    private final SecretKey secretKey;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
     private final long accessTokenExpirationMs;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtProviderImpl(
-            @Value("${jwt.secret}") String secret,
-            @Value("${jwt.access-token-expiration-ms:900000}") long accessTokenExpirationMs) {
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            JwtKeyRing keyRing,
+            @Value("${jwt.access-token-expiration-ms:900000}") long accessTokenExpirationMs,
+            VerifiedTokenCache verifiedTokenCache) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(ProtectedHeader header) {
+                        return findVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
         this.accessTokenExpirationMs = accessTokenExpirationMs;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
     public String generateAccessToken(User user) {
+        return generateAccessToken(AuthPrincipal.fromUser(user));
+    }
+
+    @Override
+    public String generateAccessToken(AuthPrincipal principal) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpirationMs);
+        JwtSigningKey signingKey = keyRing.getActiveKey();
 
         return Jwts.builder()
-                .subject(user.getId().toString())
-                .claim("email", user.getEmail())
-                .claim("tenantId", user.getTenant().getId().toString())
-                .claim("tenantSlug", user.getTenant().getSlug())
-                .claim("roles", user.getRoles().stream()
-                        .map(Role::name)
-                        .collect(Collectors.toList()))
+                .header().keyId(signingKey.keyId()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(principal.userId().toString())
+                .claim("email", principal.email())
+                .claim("tenantId", principal.tenantId().toString())
+                .claim("tenantSlug", principal.tenantSlug())
+                .claim("roles", Role.toMask(principal.roles()))
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(secretKey)
+                .signWith(signingKey.signingKey(), signingKey.signatureAlgorithm())
                 .compact();
     }
 
     @Override
-    public String getUserIdFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.getSubject();
-    }
+    public Optional<AccessTokenClaims> parseAccessToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
 
-    @Override
-    public String getTenantIdFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("tenantId", String.class);
-    }
+        VerifiedTokenCache.Key cacheKey = verifiedTokenCache.keyFor(token);
+        AccessTokenClaims cached = verifiedTokenCache.get(cacheKey);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
 
-    @Override
-    public String getTenantSlugFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("tenantSlug", String.class);
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            AccessTokenClaims accessTokenClaims = toAccessTokenClaims(token, claims);
+            verifiedTokenCache.put(cacheKey, accessTokenClaims);
+            return Optional.of(accessTokenClaims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     @Override
-    public String getEmailFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("email", String.class);
+    public long getAccessTokenExpirationMs() {
+        return accessTokenExpirationMs;
     }
 
     @Override
-    @SuppressWarnings("unchecked")
-    public java.util.List<String> getRolesFromToken(String token) {
-        Claims claims = parseToken(token);
-        return claims.get("roles", java.util.List.class);
+    public List<Map<String, Object>> getPublicJwks() {
+        return keyRing.getKeys().stream()
+                .filter(key -> !key.isSymmetric())
+                .map(JwtSigningKey::publicJwk)
+                .toList();
     }
 
-    @Override
-    public boolean validateToken(String token) {
-        try {
-            parseToken(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+    private Key findVerificationKey(String keyId) {
+        JwtSigningKey signingKey = keyId == null ? keyRing.getActiveKey() : keyRing.findKey(keyId);
+        return signingKey == null ? null : signingKey.verificationKey();
     }
 
-    @Override
-    public long getAccessTokenExpirationMs() {
-        return accessTokenExpirationMs;
+    private AccessTokenClaims toAccessTokenClaims(String token, Claims claims) {
+        String tokenId = claims.getId() != null ? claims.getId() : legacyTokenId(token);
+        return new AccessTokenClaims(
+                tokenId,
+                claims.getSubject(),
+                claims.get("tenantId", String.class),
+                claims.get("tenantSlug", String.class),
+                claims.get("email", String.class),
+                roleNames(claims.get("roles")),
+                claims.getExpiration().toInstant()
+        );
     }
 
-    @Override
-    public long getRemainingExpirationSeconds(String token) {
-        try {
-            Claims claims = parseToken(token);
-            Date expiration = claims.getExpiration();
-            long remainingMs = expiration.getTime() - System.currentTimeMillis();
-            return Math.max(0, remainingMs / 1000);
-        } catch (JwtException | IllegalArgumentException e) {
-            return 0;
+    private List<String> roleNames(Object roles) {
+        if (roles instanceof Number mask) {
+            return Role.fromMask(mask.intValue()).stream().map(Role::name).toList();
         }
+        if (roles instanceof List<?> names) {
+            return names.stream().map(String::valueOf).toList();
+        }
+        return List.of();
     }
 
-    private Claims parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private String legacyTokenId(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
     }
 }
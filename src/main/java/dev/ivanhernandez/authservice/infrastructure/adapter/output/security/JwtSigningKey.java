@@ -0,0 +1,158 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecureDigestAlgorithm;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public record JwtSigningKey(
+        String keyId,
+        String algorithm,
+        Key signingKey,
+        Key verificationKey,
+        Map<String, Object> publicJwk
+) {
+
+    public JwtSigningKey {
+        publicJwk = publicJwk == null ? null : Map.copyOf(publicJwk);
+    }
+
+    public static JwtSigningKey hmac(String algorithm, String secret) {
+        SecretKey secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        String keyId = Jwks.builder().key(secretKey).idFromThumbprint().build().getId();
+        return new JwtSigningKey(keyId, algorithm, secretKey, secretKey, null);
+    }
+
+    public static JwtSigningKey fromKeyPair(String algorithm, KeyPair keyPair) {
+        var jwk = Jwks.builder()
+                .key(keyPair.getPublic())
+                .algorithm(algorithm)
+                .publicKeyUse("sig")
+                .idFromThumbprint()
+                .build();
+        Map<String, Object> publicJwk = new LinkedHashMap<>();
+        jwk.forEach((name, value) -> publicJwk.put(name, value.toString()));
+        return new JwtSigningKey(jwk.getId(), algorithm, keyPair.getPrivate(), keyPair.getPublic(), publicJwk);
+    }
+
+    public static JwtSigningKey fromPem(String algorithm, String privateKeyPem, String publicKeyPem) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(keyFamily(algorithm));
+            PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKeyPem)));
+            PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(decodePem(publicKeyPem)));
+            return fromKeyPair(algorithm, new KeyPair(publicKey, privateKey));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid " + algorithm + " key material", e);
+        }
+    }
+
+    public static JwtSigningKey fromPem(String privateKeyPem, String publicKeyPem) {
+        try {
+            X509EncodedKeySpec publicKeySpec = new X509EncodedKeySpec(decodePem(publicKeyPem));
+            for (String family : List.of("RSA", "EC", "Ed25519")) {
+                KeyFactory keyFactory = KeyFactory.getInstance(family);
+                PublicKey publicKey;
+                try {
+                    publicKey = keyFactory.generatePublic(publicKeySpec);
+                } catch (InvalidKeySpecException e) {
+                    continue;
+                }
+                PrivateKey privateKey = privateKeyPem == null
+                        ? null
+                        : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKeyPem)));
+                return fromKeyPair(algorithmFor(publicKey), new KeyPair(publicKey, privateKey));
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid key material", e);
+        }
+        throw new IllegalStateException("Unsupported public key type");
+    }
+
+    public static JwtSigningKey generate(String algorithm) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance(keyFamily(algorithm));
+            switch (algorithm) {
+                case "RS256", "RS384", "RS512", "PS256", "PS384", "PS512" -> generator.initialize(2048);
+                case "ES256" -> generator.initialize(new ECGenParameterSpec("secp256r1"));
+                case "ES384" -> generator.initialize(new ECGenParameterSpec("secp384r1"));
+                case "ES512" -> generator.initialize(new ECGenParameterSpec("secp521r1"));
+                default -> {
+                }
+            }
+            return fromKeyPair(algorithm, generator.generateKeyPair());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to generate " + algorithm + " key pair", e);
+        }
+    }
+
+    public static boolean isSymmetric(String algorithm) {
+        return algorithm.startsWith("HS");
+    }
+
+    public boolean isSymmetric() {
+        return isSymmetric(algorithm);
+    }
+
+    public boolean canSign() {
+        return signingKey != null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public SecureDigestAlgorithm<Key, Key> signatureAlgorithm() {
+        return (SecureDigestAlgorithm) Jwts.SIG.get().forKey(algorithm);
+    }
+
+    private static String keyFamily(String algorithm) {
+        return switch (algorithm) {
+            case "RS256", "RS384", "RS512", "PS256", "PS384", "PS512" -> "RSA";
+            case "ES256", "ES384", "ES512" -> "EC";
+            case "EdDSA" -> "Ed25519";
+            default -> throw new IllegalArgumentException("Unsupported JWT signing algorithm: " + algorithm);
+        };
+    }
+
+    private static String algorithmFor(PublicKey publicKey) {
+        if (publicKey instanceof RSAPublicKey) {
+            return "RS256";
+        }
+        if (publicKey instanceof ECPublicKey ecPublicKey) {
+            return switch (ecPublicKey.getParams().getCurve().getField().getFieldSize()) {
+                case 256 -> "ES256";
+                case 384 -> "ES384";
+                case 521 -> "ES512";
+                default -> throw new IllegalStateException("Unsupported EC curve");
+            };
+        }
+        if (publicKey instanceof EdECPublicKey) {
+            return "EdDSA";
+        }
+        throw new IllegalStateException("Unsupported public key type: " + publicKey.getAlgorithm());
+    }
+
+    private static byte[] decodePem(String pem) {
+        String base64 = pem.replaceAll("-----(BEGIN|END)[A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -0,0 +1,130 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig;
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig.Algorithm;
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig.Calibration;
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig.HashingParameters;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class PasswordHashingCalibrator implements InfoContributor {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHashingCalibrator.class);
+    private static final String BENCHMARK_PASSWORD = "Calibration-Pa55word!";
+
+    private final PasswordHashingConfig config;
+    private volatile Result result;
+
+    public PasswordHashingCalibrator(PasswordHashingConfig config) {
+        this.config = config;
+    }
+
+    @PostConstruct
+    public void calibrate() {
+        Calibration calibration = config.getCalibration();
+        HashingParameters current = config.getParameters(null);
+        if (!calibration.isEnabled()) {
+            result = new Result(current, false, calibration.getTargetMs(), -1);
+            return;
+        }
+
+        result = switch (current.algorithm()) {
+            case BCRYPT -> calibrateBcrypt(current, calibration);
+            case ARGON2ID -> calibrateArgon2(current, calibration);
+        };
+        config.setBcryptStrength(result.parameters().bcryptStrength());
+        config.setArgon2Iterations(result.parameters().argon2Iterations());
+
+        log.info("Calibrated {} password hashing to {} ms (target {} ms): bcrypt strength {}, argon2 iterations {}",
+                result.parameters().algorithm(), result.measuredMs(), result.targetMs(),
+                result.parameters().bcryptStrength(), result.parameters().argon2Iterations());
+    }
+
+    public Result getResult() {
+        return result;
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        Result current = result;
+        if (current == null) {
+            return;
+        }
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("algorithm", current.parameters().algorithm());
+        details.put("bcryptStrength", current.parameters().bcryptStrength());
+        details.put("argon2MemoryKib", current.parameters().argon2MemoryKib());
+        details.put("argon2Iterations", current.parameters().argon2Iterations());
+        details.put("argon2Parallelism", current.parameters().argon2Parallelism());
+        details.put("calibrated", current.calibrated());
+        details.put("targetMs", current.targetMs());
+        if (current.calibrated()) {
+            details.put("measuredMs", current.measuredMs());
+        }
+        builder.withDetail("passwordHashing", details);
+    }
+
+    private Result calibrateBcrypt(HashingParameters current, Calibration calibration) {
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(calibration.getTargetMs());
+        int strength = Math.max(calibration.getMinBcryptStrength(), current.bcryptStrength());
+        HashingParameters parameters = withBcryptStrength(current, strength);
+        long measuredNanos = measure(parameters, calibration.getSamples());
+
+        while (strength < calibration.getMaxBcryptStrength() && measuredNanos * 2 <= targetNanos) {
+            strength++;
+            parameters = withBcryptStrength(current, strength);
+            measuredNanos = measure(parameters, calibration.getSamples());
+        }
+        return new Result(parameters, true, calibration.getTargetMs(), TimeUnit.NANOSECONDS.toMillis(measuredNanos));
+    }
+
+    private Result calibrateArgon2(HashingParameters current, Calibration calibration) {
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(calibration.getTargetMs());
+        HashingParameters single = withArgon2Iterations(current, 1);
+        long singleNanos = Math.max(1, measure(single, calibration.getSamples()));
+
+        int iterations = (int) Math.max(current.argon2Iterations(),
+                Math.min(calibration.getMaxArgon2Iterations(), targetNanos / singleNanos));
+        HashingParameters parameters = withArgon2Iterations(current, iterations);
+        long measuredNanos = iterations == 1 ? singleNanos : measure(parameters, calibration.getSamples());
+        return new Result(parameters, true, calibration.getTargetMs(), TimeUnit.NANOSECONDS.toMillis(measuredNanos));
+    }
+
+    private static long measure(HashingParameters parameters, int samples) {
+        PasswordEncoder encoder = DelegatingPasswordEncoderAdapter.createEncoder(parameters);
+        encoder.encode(BENCHMARK_PASSWORD);
+
+        long[] durations = new long[Math.max(1, samples)];
+        for (int i = 0; i < durations.length; i++) {
+            long start = System.nanoTime();
+            encoder.encode(BENCHMARK_PASSWORD);
+            durations[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(durations);
+        return durations[durations.length / 2];
+    }
+
+    private static HashingParameters withBcryptStrength(HashingParameters parameters, int strength) {
+        return new HashingParameters(Algorithm.BCRYPT, strength, parameters.argon2MemoryKib(),
+                parameters.argon2Iterations(), parameters.argon2Parallelism());
+    }
+
+    private static HashingParameters withArgon2Iterations(HashingParameters parameters, int iterations) {
+        return new HashingParameters(Algorithm.ARGON2ID, parameters.bcryptStrength(), parameters.argon2MemoryKib(),
+                iterations, parameters.argon2Parallelism());
+    }
+
+    public record Result(HashingParameters parameters, boolean calibrated, long targetMs, long measuredMs) {
+    }
+}
@@ -0,0 +1,249 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.domain.exception.ServerBusyException;
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String DEFAULT_TENANT = "default";
+    private static final int NEW = 0;
+    private static final int RUNNING = 1;
+    private static final int CANCELLED = 2;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Map<String, TenantQueue> queues = new HashMap<>();
+    private final ArrayDeque<TenantQueue> activeQueues = new ArrayDeque<>();
+    private final PasswordHashingConfig config;
+    private final MeterRegistry meterRegistry;
+    private final List<Thread> workers = new ArrayList<>();
+    private int queued;
+    private volatile boolean running = true;
+
+    public PasswordHashingExecutor(PasswordHashingConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("password.hash.queue.size", this, PasswordHashingExecutor::getQueuedCount)
+                .description("Password hashing requests waiting for a hashing thread")
+                .register(meterRegistry);
+
+        for (int i = 0; i < config.getThreads(); i++) {
+            Thread worker = new Thread(this::runWorker, "password-hash-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    public <T> T execute(UUID tenantId, Supplier<T> work) {
+        String tenant = tenantId == null ? DEFAULT_TENANT : tenantId.toString();
+        Task<T> task = new Task<>(tenant, work);
+
+        lock.lock();
+        try {
+            TenantQueue queue = queues.computeIfAbsent(tenant, t -> new TenantQueue(config.getWeight(t)));
+            if (queue.tasks.size() >= config.getTenantQueueCapacity()) {
+                meterRegistry.counter("password.hash.rejected", "tenant", tenant).increment();
+                throw new ServerBusyException(config.getRetryAfterSeconds());
+            }
+            queue.tasks.addLast(task);
+            queued++;
+            if (!queue.active) {
+                queue.active = true;
+                queue.credit = queue.weight;
+                activeQueues.addLast(queue);
+            }
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+
+        return await(task);
+    }
+
+    public int getQueuedCount() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+    }
+
+    private <T> T await(Task<T> task) {
+        try {
+            return task.future.get(config.getQueueTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (cancel(task)) {
+                meterRegistry.counter("password.hash.rejected", "tenant", task.tenant).increment();
+                throw new ServerBusyException(config.getRetryAfterSeconds());
+            }
+            return awaitRunning(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(task);
+            throw new ServerBusyException(config.getRetryAfterSeconds());
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private <T> T awaitRunning(Task<T> task) {
+        try {
+            return task.future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerBusyException(config.getRetryAfterSeconds());
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private boolean cancel(Task<?> task) {
+        if (!task.state.compareAndSet(NEW, CANCELLED)) {
+            return false;
+        }
+        lock.lock();
+        try {
+            TenantQueue queue = queues.get(task.tenant);
+            if (queue != null && queue.tasks.remove(task)) {
+                queued--;
+                if (queue.tasks.isEmpty()) {
+                    activeQueues.remove(queue);
+                    queues.remove(task.tenant);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    private void runWorker() {
+        while (running) {
+            Task<?> task;
+            lock.lock();
+            try {
+                while (activeQueues.isEmpty()) {
+                    available.await();
+                }
+                task = next();
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+            task.run();
+        }
+    }
+
+    private Task<?> next() {
+        TenantQueue queue = activeQueues.peekFirst();
+        Task<?> task = queue.tasks.pollFirst();
+        queued--;
+        queue.credit--;
+        if (queue.tasks.isEmpty()) {
+            activeQueues.pollFirst();
+            queues.remove(task.tenant);
+        } else if (queue.credit <= 0) {
+            activeQueues.pollFirst();
+            queue.credit = queue.weight;
+            activeQueues.addLast(queue);
+        }
+        return task;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Password hashing failed", cause);
+    }
+
+    private static final class TenantQueue {
+
+        private final ArrayDeque<Task<?>> tasks = new ArrayDeque<>();
+        private final int weight;
+        private int credit;
+        private boolean active;
+
+        private TenantQueue(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private final class Task<T> {
+
+        private final String tenant;
+        private final Supplier<T> work;
+        private final long enqueuedAt = System.nanoTime();
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(NEW);
+
+        private Task(String tenant, Supplier<T> work) {
+            this.tenant = tenant;
+            this.work = work;
+        }
+
+        private void run() {
+            if (!state.compareAndSet(NEW, RUNNING)) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            Timer.builder("password.hash.queue.wait")
+                    .description("Time a password hashing request waited for a hashing thread")
+                    .tag("tenant", tenant)
+                    .register(meterRegistry)
+                    .record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+            T result = null;
+            Throwable failure = null;
+            try {
+                result = work.get();
+            } catch (Throwable e) {
+                failure = e;
+            }
+            Timer.builder("password.hash.duration")
+                    .description("Time spent computing a password hash")
+                    .tag("tenant", tenant)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "verified-tokens";
+    private static final long PURGE_INTERVAL_MS = 1000;
+
+    private final Map<Key, AccessTokenClaims> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final AtomicLong lastPurgeAt = new AtomicLong();
+
+    public VerifiedTokenCache(@Value("${jwt.verified-token-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Key keyFor(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ByteBuffer hash = ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new Key(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    public AccessTokenClaims get(Key key) {
+        AccessTokenClaims claims = entries.get(key);
+        if (claims == null) {
+            misses.increment();
+            return null;
+        }
+        if (claims.isExpired()) {
+            entries.remove(key, claims);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return claims;
+    }
+
+    public void put(Key key, AccessTokenClaims claims) {
+        if (maxSize <= 0 || claims.isExpired()) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            purgeExpired();
+            if (entries.size() >= maxSize) {
+                return;
+            }
+        }
+        entries.put(key, claims);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .description("Access tokens served without re-verifying the signature")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .description("Access tokens that required full signature verification")
+                .register(registry);
+        Gauge.builder("cache.size", entries, Map::size)
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+        Gauge.builder("cache.max.size", this, cache -> cache.maxSize)
+                .tag("cache", CACHE_NAME)
+                .register(registry);
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        long lastPurge = lastPurgeAt.get();
+        if (now - lastPurge < PURGE_INTERVAL_MS || !lastPurgeAt.compareAndSet(lastPurge, now)) {
+            return;
+        }
+        Instant instant = Instant.ofEpochMilli(now);
+        entries.values().removeIf(claims -> !instant.isBefore(claims.expiresAt()));
+    }
+
+    public record Key(long first, long second, long third, long fourth) {
+    }
+}
@@ -0,0 +1,286 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+public class ClientAddressResolver {
+
+    private static final long IPV4_MAPPED_PREFIX = 0x0000ffff00000000L;
+
+    private final long[] networkHigh;
+    private final long[] networkLow;
+    private final long[] maskHigh;
+    private final long[] maskLow;
+
+    public ClientAddressResolver(List<String> trustedProxies) {
+        int count = trustedProxies.size();
+        this.networkHigh = new long[count];
+        this.networkLow = new long[count];
+        this.maskHigh = new long[count];
+        this.maskLow = new long[count];
+        for (int i = 0; i < count; i++) {
+            addTrustedProxy(i, trustedProxies.get(i).trim());
+        }
+    }
+
+    public RateLimitKey resolve(String scope, HttpServletRequest request) {
+        Address address = new Address();
+        if (!resolve(request, address)) {
+            return RateLimitKey.of(scope + ":" + request.getRemoteAddr());
+        }
+        return new RateLimitKey(scope, address.high, address.low);
+    }
+
+    public boolean resolve(HttpServletRequest request, Address address) {
+        String remoteAddr = request.getRemoteAddr();
+        if (remoteAddr == null || !address.parse(remoteAddr, 0, remoteAddr.length())) {
+            return false;
+        }
+
+        if (isTrusted(address.high, address.low)) {
+            resolveForwarded(request, address);
+        }
+        return true;
+    }
+
+    public String resolveAddress(HttpServletRequest request) {
+        String address = resolve("", request).addressAsString();
+        return address != null ? address : request.getRemoteAddr();
+    }
+
+    public boolean isTrusted(long high, long low) {
+        for (int i = 0; i < networkHigh.length; i++) {
+            if ((high & maskHigh[i]) == networkHigh[i] && (low & maskLow[i]) == networkLow[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void resolveForwarded(HttpServletRequest request, Address address) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isEmpty()) {
+            int end = forwardedFor.length();
+            while (end >= 0) {
+                int comma = forwardedFor.lastIndexOf(',', end - 1);
+                if (!address.parse(forwardedFor, comma + 1, end) || !isTrusted(address.high, address.low)) {
+                    return;
+                }
+                end = comma;
+            }
+            return;
+        }
+
+        String realIp = request.getHeader("X-Real-IP");
+        if (realIp != null) {
+            address.parse(realIp, 0, realIp.length());
+        }
+    }
+
+    private void addTrustedProxy(int index, String cidr) {
+        int slash = cidr.indexOf('/');
+        int addressEnd = slash < 0 ? cidr.length() : slash;
+        boolean ipv4 = cidr.lastIndexOf(':', addressEnd - 1) < 0;
+
+        Address address = new Address();
+        if (!address.parse(cidr, 0, addressEnd)) {
+            throw new IllegalArgumentException("Invalid trusted proxy CIDR: " + cidr);
+        }
+
+        int prefix;
+        try {
+            prefix = slash < 0 ? (ipv4 ? 32 : 128) : Integer.parseInt(cidr.substring(slash + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid trusted proxy CIDR: " + cidr, e);
+        }
+        if (prefix < 0 || prefix > (ipv4 ? 32 : 128)) {
+            throw new IllegalArgumentException("Invalid trusted proxy CIDR: " + cidr);
+        }
+        if (ipv4) {
+            prefix += 96;
+        }
+
+        maskHigh[index] = prefix == 0 ? 0 : prefix >= 64 ? -1L : -1L << (64 - prefix);
+        maskLow[index] = prefix <= 64 ? 0 : -1L << (128 - prefix);
+        networkHigh[index] = address.high & maskHigh[index];
+        networkLow[index] = address.low & maskLow[index];
+    }
+
+    private static long parseIpv4(String value, int from, int to) {
+        long address = 0;
+        int octets = 0;
+        int octet = 0;
+        int digits = 0;
+        for (int i = from; i <= to; i++) {
+            if (i == to || value.charAt(i) == '.') {
+                if (digits == 0 || octets == 4) {
+                    return -1;
+                }
+                address = (address << 8) | octet;
+                octets++;
+                octet = 0;
+                digits = 0;
+                continue;
+            }
+            char c = value.charAt(i);
+            if (c < '0' || c > '9' || digits == 3) {
+                return -1;
+            }
+            octet = octet * 10 + (c - '0');
+            digits++;
+            if (octet > 255) {
+                return -1;
+            }
+        }
+        return octets == 4 ? address : -1;
+    }
+
+    private static int indexOf(String value, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (value.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static final class Address {
+
+        private long high;
+        private long low;
+
+        private long headHigh;
+        private long headLow;
+        private long tailHigh;
+        private long tailLow;
+        private int groups;
+        private int compressedAt;
+
+        public long high() {
+            return high;
+        }
+
+        public long low() {
+            return low;
+        }
+
+        private boolean parse(String value, int from, int to) {
+            while (from < to && Character.isWhitespace(value.charAt(from))) {
+                from++;
+            }
+            while (to > from && Character.isWhitespace(value.charAt(to - 1))) {
+                to--;
+            }
+            if (from == to) {
+                return false;
+            }
+
+            if (value.charAt(from) == '[') {
+                int close = indexOf(value, ']', from, to);
+                return close >= 0 && parseIpv6(value, from + 1, close);
+            }
+
+            int colon = indexOf(value, ':', from, to);
+            if (colon < 0 || indexOf(value, ':', colon + 1, to) < 0) {
+                long ipv4 = parseIpv4(value, from, colon < 0 ? to : colon);
+                if (ipv4 < 0) {
+                    return false;
+                }
+                high = 0;
+                low = IPV4_MAPPED_PREFIX | ipv4;
+                return true;
+            }
+
+            int zone = indexOf(value, '%', from, to);
+            return parseIpv6(value, from, zone < 0 ? to : zone);
+        }
+
+        private boolean parseIpv6(String value, int from, int to) {
+            headHigh = 0;
+            headLow = 0;
+            tailHigh = 0;
+            tailLow = 0;
+            groups = 0;
+            compressedAt = -1;
+
+            int i = from;
+            if (to - from >= 2 && value.charAt(from) == ':' && value.charAt(from + 1) == ':') {
+                compressedAt = 0;
+                i += 2;
+            } else if (from == to || value.charAt(from) == ':') {
+                return false;
+            }
+
+            while (i < to) {
+                int end = indexOf(value, ':', i, to);
+                if (end < 0) {
+                    end = to;
+                }
+
+                if (end == to && indexOf(value, '.', i, to) >= 0) {
+                    long ipv4 = parseIpv4(value, i, to);
+                    if (ipv4 < 0 || !push((int) (ipv4 >>> 16)) || !push((int) (ipv4 & 0xffff))) {
+                        return false;
+                    }
+                    break;
+                }
+
+                if (end - i == 0 || end - i > 4) {
+                    return false;
+                }
+                int group = 0;
+                for (int j = i; j < end; j++) {
+                    int digit = Character.digit(value.charAt(j), 16);
+                    if (digit < 0) {
+                        return false;
+                    }
+                    group = (group << 4) | digit;
+                }
+                if (!push(group)) {
+                    return false;
+                }
+
+                i = end;
+                if (i < to) {
+                    i++;
+                    if (i < to && value.charAt(i) == ':') {
+                        if (compressedAt >= 0) {
+                            return false;
+                        }
+                        compressedAt = groups;
+                        i++;
+                    } else if (i == to) {
+                        return false;
+                    }
+                }
+            }
+
+            if (compressedAt < 0 ? groups != 8 : groups > 7) {
+                return false;
+            }
+            high = headHigh | tailHigh;
+            low = headLow | tailLow;
+            return true;
+        }
+
+        private boolean push(int group) {
+            if (groups == 8) {
+                return false;
+            }
+            if (compressedAt < 0) {
+                if (groups < 4) {
+                    headHigh |= (long) group << (16 * (3 - groups));
+                } else {
+                    headLow |= (long) group << (16 * (7 - groups));
+                }
+            } else {
+                tailHigh = (tailHigh << 16) | (tailLow >>> 48);
+                tailLow = (tailLow << 16) | group;
+            }
+            groups++;
+            return true;
+        }
+    }
+}
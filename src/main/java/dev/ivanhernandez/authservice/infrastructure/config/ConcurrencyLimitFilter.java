@@ -0,0 +1,120 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.ivanhernandez.authservice.application.dto.response.ErrorResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+
+    private final boolean enabled;
+    private final Set<String> paths;
+    private final long retryAfterSeconds;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+    private final LongAdder rejected = new LongAdder();
+
+    public ConcurrencyLimitFilter(
+            @Value("${concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${concurrency-limit.paths:/api/v1/auth/login,/api/v1/auth/register,/api/v1/auth/password/reset,/api/v1/users/me/password}") List<String> paths,
+            @Value("${concurrency-limit.initial-limit:16}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:2}") int minLimit,
+            @Value("${concurrency-limit.max-limit:128}") int maxLimit,
+            @Value("${concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${concurrency-limit.tolerance:1.5}") double tolerance,
+            @Value("${concurrency-limit.long-window-samples:600}") int longWindowSamples,
+            @Value("${concurrency-limit.retry-after-seconds:1}") long retryAfterSeconds,
+            ObjectMapper objectMapper) {
+        this.enabled = enabled;
+        this.paths = paths.stream()
+                .map(String::trim)
+                .map(RateLimitRouteTable::normalize)
+                .collect(Collectors.toUnmodifiableSet());
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, smoothing, tolerance, longWindowSamples);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !paths.contains(RateLimitRouteTable.normalize(UrlPathHelper.defaultInstance.getLookupPathForRequest(request)));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        if (!limiter.tryAcquire()) {
+            rejected.increment();
+            sendServerBusyResponse(response);
+            return;
+        }
+
+        int inFlight = limiter.getInFlight();
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed) {
+                limiter.onSuccess(System.nanoTime() - start, inFlight);
+            } else {
+                limiter.onIgnore();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("auth.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit of the password hashing endpoints")
+                .register(registry);
+        Gauge.builder("auth.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Requests currently executing on the password hashing endpoints")
+                .register(registry);
+        Gauge.builder("auth.concurrency.queue.depth", limiter, AdaptiveConcurrencyLimiter::getQueueDepth)
+                .description("Estimated requests queued for CPU, from the latency gradient")
+                .register(registry);
+        FunctionCounter.builder("auth.concurrency.rejected", rejected, LongAdder::sum)
+                .description("Requests shed because the concurrency limit was reached")
+                .register(registry);
+    }
+
+    AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    private void sendServerBusyResponse(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader("Retry-After", String.valueOf(retryAfterSeconds));
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Server is busy. Try again in " + retryAfterSeconds + " seconds"
+        );
+
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
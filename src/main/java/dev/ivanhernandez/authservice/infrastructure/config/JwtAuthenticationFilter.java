@@ -2,6 +2,7 @@ package dev.ivanhernandez.authservice.infrastructure.config;
 
 import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
 import dev.ivanhernandez.authservice.application.port.output.TokenBlacklist;
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +16,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Component
@@ -34,11 +36,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = extractTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtProvider.validateToken(token) && !tokenBlacklist.isBlacklisted(token)) {
-            String userId = jwtProvider.getUserIdFromToken(token);
+        Optional<AccessTokenClaims> claims = StringUtils.hasText(token)
+                ? jwtProvider.parseAccessToken(token)
+                : Optional.empty();
 
+        if (claims.isPresent() && !tokenBlacklist.isBlacklisted(claims.get().tokenId())) {
             UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                    UUID.fromString(userId),
+                    UUID.fromString(claims.get().userId()),
                     token,
                     List.of(new SimpleGrantedAuthority("ROLE_USER"))
             );
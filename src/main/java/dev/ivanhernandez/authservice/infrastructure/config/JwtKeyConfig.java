@@ -0,0 +1,59 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.security.JwtKeyRing;
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.security.JwtSigningKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+@Configuration
+public class JwtKeyConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyConfig.class);
+
+    @Bean
+    public JwtSigningKey jwtSigningKey(@Value("${jwt.algorithm:HS256}") String algorithm,
+                                       @Value("${jwt.secret}") String secret,
+                                       @Value("${jwt.private-key:}") String privateKeyPem,
+                                       @Value("${jwt.public-key:}") String publicKeyPem,
+                                       @Value("${jwt.keys.directory:}") String keysDirectory,
+                                       @Value("${jwt.allow-ephemeral-key:true}") boolean allowEphemeralKey) {
+        if (JwtSigningKey.isSymmetric(algorithm)) {
+            return JwtSigningKey.hmac(algorithm, secret);
+        }
+
+        if (StringUtils.hasText(privateKeyPem) && StringUtils.hasText(publicKeyPem)) {
+            return JwtSigningKey.fromPem(algorithm, privateKeyPem, publicKeyPem);
+        }
+
+        if (!allowEphemeralKey) {
+            if (StringUtils.hasText(keysDirectory)) {
+                return activeDirectoryKey(Path.of(keysDirectory));
+            }
+            throw new IllegalStateException("No " + algorithm + " key pair configured. Set JWT_PRIVATE_KEY and "
+                    + "JWT_PUBLIC_KEY or JWT_KEYS_DIRECTORY, or use JWT_ALGORITHM=HS256 with JWT_SECRET");
+        }
+
+        JwtSigningKey signingKey = JwtSigningKey.generate(algorithm);
+        log.warn("No {} key pair configured, generated ephemeral signing key {}. "
+                + "Tokens will not survive a restart or validate on other instances.", algorithm, signingKey.keyId());
+        return signingKey;
+    }
+
+    private JwtSigningKey activeDirectoryKey(Path directory) {
+        try {
+            return JwtKeyRing.readActiveKey(directory)
+                    .orElseThrow(() -> new IllegalStateException("JWT_KEYS_DIRECTORY " + directory
+                            + " has no active signing key. Add an 'active' file naming a key pair in it"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to load JWT keys from " + directory, e);
+        }
+    }
+}
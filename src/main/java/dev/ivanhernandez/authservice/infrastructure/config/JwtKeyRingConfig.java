@@ -0,0 +1,31 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "jwt.keys")
+public class JwtKeyRingConfig {
+
+    private String directory;
+    private List<String> previousSecrets = new ArrayList<>();
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(String directory) {
+        this.directory = directory;
+    }
+
+    public List<String> getPreviousSecrets() {
+        return previousSecrets;
+    }
+
+    public void setPreviousSecrets(List<String> previousSecrets) {
+        this.previousSecrets = previousSecrets;
+    }
+}
@@ -0,0 +1,70 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "login-throttle")
+public class LoginThrottleConfig {
+
+    private long windowSeconds = 900;
+    private int accountThreshold = 5;
+    private int ipThreshold = 20;
+    private long baseLockoutMs = 1000;
+    private long maxLockoutMs = 900_000;
+
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    public void setWindowSeconds(long windowSeconds) {
+        this.windowSeconds = windowSeconds;
+    }
+
+    public int getAccountThreshold() {
+        return accountThreshold;
+    }
+
+    public void setAccountThreshold(int accountThreshold) {
+        this.accountThreshold = accountThreshold;
+    }
+
+    public int getIpThreshold() {
+        return ipThreshold;
+    }
+
+    public void setIpThreshold(int ipThreshold) {
+        this.ipThreshold = ipThreshold;
+    }
+
+    public long getBaseLockoutMs() {
+        return baseLockoutMs;
+    }
+
+    public void setBaseLockoutMs(long baseLockoutMs) {
+        this.baseLockoutMs = baseLockoutMs;
+    }
+
+    public long getMaxLockoutMs() {
+        return maxLockoutMs;
+    }
+
+    public void setMaxLockoutMs(long maxLockoutMs) {
+        this.maxLockoutMs = maxLockoutMs;
+    }
+
+    public long getWindowMs() {
+        return windowSeconds * 1000;
+    }
+
+    public long lockoutMs(long failures, int threshold) {
+        if (failures < threshold) {
+            return 0;
+        }
+        long lockout = baseLockoutMs;
+        for (long i = threshold; i < failures && lockout < maxLockoutMs; i++) {
+            lockout *= 2;
+        }
+        return Math.min(maxLockoutMs, lockout);
+    }
+}
@@ -0,0 +1,260 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingConfig {
+
+    private int threads;
+    private int tenantQueueCapacity = 64;
+    private long queueTimeoutMs = 5000;
+    private long retryAfterSeconds = 1;
+    private Map<String, Integer> tenantWeights = new HashMap<>();
+    private Algorithm algorithm = Algorithm.BCRYPT;
+    private int bcryptStrength = 12;
+    private int argon2MemoryKib = 19456;
+    private int argon2Iterations = 2;
+    private int argon2Parallelism = 1;
+    private Map<String, TenantParameters> tenantParameters = new HashMap<>();
+    private Calibration calibration = new Calibration();
+
+    public int getThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getTenantQueueCapacity() {
+        return tenantQueueCapacity;
+    }
+
+    public void setTenantQueueCapacity(int tenantQueueCapacity) {
+        this.tenantQueueCapacity = tenantQueueCapacity;
+    }
+
+    public long getQueueTimeoutMs() {
+        return queueTimeoutMs;
+    }
+
+    public void setQueueTimeoutMs(long queueTimeoutMs) {
+        this.queueTimeoutMs = queueTimeoutMs;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Map<String, Integer> getTenantWeights() {
+        return tenantWeights;
+    }
+
+    public void setTenantWeights(Map<String, Integer> tenantWeights) {
+        this.tenantWeights = tenantWeights;
+    }
+
+    public int getWeight(String tenantId) {
+        return Math.max(1, tenantWeights.getOrDefault(tenantId, 1));
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public void setAlgorithm(Algorithm algorithm) {
+        this.algorithm = algorithm;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public void setBcryptStrength(int bcryptStrength) {
+        this.bcryptStrength = bcryptStrength;
+    }
+
+    public int getArgon2MemoryKib() {
+        return argon2MemoryKib;
+    }
+
+    public void setArgon2MemoryKib(int argon2MemoryKib) {
+        this.argon2MemoryKib = argon2MemoryKib;
+    }
+
+    public int getArgon2Iterations() {
+        return argon2Iterations;
+    }
+
+    public void setArgon2Iterations(int argon2Iterations) {
+        this.argon2Iterations = argon2Iterations;
+    }
+
+    public int getArgon2Parallelism() {
+        return argon2Parallelism;
+    }
+
+    public void setArgon2Parallelism(int argon2Parallelism) {
+        this.argon2Parallelism = argon2Parallelism;
+    }
+
+    public Map<String, TenantParameters> getTenantParameters() {
+        return tenantParameters;
+    }
+
+    public void setTenantParameters(Map<String, TenantParameters> tenantParameters) {
+        this.tenantParameters = tenantParameters;
+    }
+
+    public Calibration getCalibration() {
+        return calibration;
+    }
+
+    public void setCalibration(Calibration calibration) {
+        this.calibration = calibration;
+    }
+
+    public HashingParameters getParameters(String tenantId) {
+        TenantParameters overrides = tenantId == null ? null : tenantParameters.get(tenantId);
+        if (overrides == null) {
+            return new HashingParameters(algorithm, bcryptStrength, argon2MemoryKib, argon2Iterations, argon2Parallelism);
+        }
+        return new HashingParameters(
+                overrides.getAlgorithm() != null ? overrides.getAlgorithm() : algorithm,
+                overrides.getBcryptStrength() != null ? overrides.getBcryptStrength() : bcryptStrength,
+                overrides.getArgon2MemoryKib() != null ? overrides.getArgon2MemoryKib() : argon2MemoryKib,
+                overrides.getArgon2Iterations() != null ? overrides.getArgon2Iterations() : argon2Iterations,
+                overrides.getArgon2Parallelism() != null ? overrides.getArgon2Parallelism() : argon2Parallelism
+        );
+    }
+
+    public enum Algorithm {
+        BCRYPT,
+        ARGON2ID
+    }
+
+    public record HashingParameters(
+            Algorithm algorithm,
+            int bcryptStrength,
+            int argon2MemoryKib,
+            int argon2Iterations,
+            int argon2Parallelism
+    ) {
+    }
+
+    public static class TenantParameters {
+
+        private Algorithm algorithm;
+        private Integer bcryptStrength;
+        private Integer argon2MemoryKib;
+        private Integer argon2Iterations;
+        private Integer argon2Parallelism;
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public void setAlgorithm(Algorithm algorithm) {
+            this.algorithm = algorithm;
+        }
+
+        public Integer getBcryptStrength() {
+            return bcryptStrength;
+        }
+
+        public void setBcryptStrength(Integer bcryptStrength) {
+            this.bcryptStrength = bcryptStrength;
+        }
+
+        public Integer getArgon2MemoryKib() {
+            return argon2MemoryKib;
+        }
+
+        public void setArgon2MemoryKib(Integer argon2MemoryKib) {
+            this.argon2MemoryKib = argon2MemoryKib;
+        }
+
+        public Integer getArgon2Iterations() {
+            return argon2Iterations;
+        }
+
+        public void setArgon2Iterations(Integer argon2Iterations) {
+            this.argon2Iterations = argon2Iterations;
+        }
+
+        public Integer getArgon2Parallelism() {
+            return argon2Parallelism;
+        }
+
+        public void setArgon2Parallelism(Integer argon2Parallelism) {
+            this.argon2Parallelism = argon2Parallelism;
+        }
+    }
+
+    public static class Calibration {
+
+        private boolean enabled;
+        private long targetMs = 100;
+        private int samples = 3;
+        private int minBcryptStrength = 10;
+        private int maxBcryptStrength = 16;
+        private int maxArgon2Iterations = 10;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getTargetMs() {
+            return targetMs;
+        }
+
+        public void setTargetMs(long targetMs) {
+            this.targetMs = targetMs;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        public void setSamples(int samples) {
+            this.samples = samples;
+        }
+
+        public int getMinBcryptStrength() {
+            return minBcryptStrength;
+        }
+
+        public void setMinBcryptStrength(int minBcryptStrength) {
+            this.minBcryptStrength = minBcryptStrength;
+        }
+
+        public int getMaxBcryptStrength() {
+            return maxBcryptStrength;
+        }
+
+        public void setMaxBcryptStrength(int maxBcryptStrength) {
+            this.maxBcryptStrength = maxBcryptStrength;
+        }
+
+        public int getMaxArgon2Iterations() {
+            return maxArgon2Iterations;
+        }
+
+        public void setMaxArgon2Iterations(int maxArgon2Iterations) {
+            this.maxArgon2Iterations = maxArgon2Iterations;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.LoginAttemptPartitionManager;
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.UserRolesBitmaskMigration;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+@Profile("prod")
+public class PostgresSchemaConfig {
+
+    @Bean
+    static EntityManagerFactoryDependsOnPostProcessor postgresSchemaBeforeJpa() {
+        return new EntityManagerFactoryDependsOnPostProcessor(
+                LoginAttemptPartitionManager.class,
+                UserRolesBitmaskMigration.class
+        );
+    }
+}
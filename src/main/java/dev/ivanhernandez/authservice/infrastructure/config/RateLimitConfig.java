@@ -1,10 +1,13 @@
 package dev.ivanhernandez.authservice.infrastructure.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -12,6 +15,8 @@ import java.util.Map;
 public class RateLimitConfig {
 
     private Map<String, EndpointLimit> endpoints = new HashMap<>();
+    private List<String> trustedProxies = new ArrayList<>(List.of(
+            "127.0.0.0/8", "::1", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "fc00::/7"));
 
     public RateLimitConfig() {
         endpoints.put("/api/v1/auth/login", new EndpointLimit(5, Duration.ofMinutes(15)));
@@ -28,13 +33,29 @@ public class RateLimitConfig {
         this.endpoints = endpoints;
     }
 
-    public EndpointLimit getLimit(String path) {
-        return endpoints.get(path);
+    public List<String> getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Bean
+    public ClientAddressResolver clientAddressResolver() {
+        return new ClientAddressResolver(trustedProxies);
+    }
+
+    public enum Algorithm {
+        WINDOW,
+        GCRA,
+        LEASED
     }
 
     public static class EndpointLimit {
         private int maxAttempts;
         private Duration window;
+        private Algorithm algorithm = Algorithm.WINDOW;
 
         public EndpointLimit() {
         }
@@ -44,6 +65,12 @@ public class RateLimitConfig {
             this.window = window;
         }
 
+        public EndpointLimit(int maxAttempts, Duration window, Algorithm algorithm) {
+            this.maxAttempts = maxAttempts;
+            this.window = window;
+            this.algorithm = algorithm;
+        }
+
         public int getMaxAttempts() {
             return maxAttempts;
         }
@@ -59,5 +86,13 @@ public class RateLimitConfig {
         public void setWindow(Duration window) {
             this.window = window;
         }
+
+        public Algorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public void setAlgorithm(Algorithm algorithm) {
+            this.algorithm = algorithm;
+        }
     }
 }
@@ -0,0 +1,107 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RateLimitRouteTable {
+
+    private final Map<String, Route> exactRoutes = new HashMap<>();
+    private final List<PatternRoute> patternRoutes;
+
+    public RateLimitRouteTable(Map<String, RateLimitConfig.EndpointLimit> endpoints) {
+        List<PatternRoute> patterns = new ArrayList<>();
+        endpoints.forEach((path, limit) -> {
+            String normalized = normalize(path);
+            Route route = new Route(normalized, limit);
+            if (isPattern(normalized)) {
+                patterns.add(new PatternRoute(PathPatternParser.defaultInstance.parse(normalized), route));
+            } else {
+                exactRoutes.put(normalized, route);
+            }
+        });
+        patterns.sort(Comparator.comparing(PatternRoute::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+        this.patternRoutes = List.copyOf(patterns);
+    }
+
+    public Route match(String path) {
+        String normalized = normalize(path);
+        Route route = exactRoutes.get(normalized);
+        if (route != null || patternRoutes.isEmpty()) {
+            return route;
+        }
+
+        PathContainer pathContainer = PathContainer.parsePath(normalized);
+        for (PatternRoute patternRoute : patternRoutes) {
+            if (patternRoute.pattern().matches(pathContainer)) {
+                return patternRoute.route();
+            }
+        }
+        return null;
+    }
+
+    static String normalize(String path) {
+        if (path == null || path.isEmpty()) {
+            return "/";
+        }
+        if (isNormalized(path)) {
+            return path;
+        }
+
+        StringBuilder builder = new StringBuilder(path.length() + 1);
+        boolean skipping = false;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c == '/') {
+                skipping = false;
+                if (builder.isEmpty() || builder.charAt(builder.length() - 1) != '/') {
+                    builder.append('/');
+                }
+            } else if (c == ';') {
+                skipping = true;
+            } else if (!skipping) {
+                if (builder.isEmpty()) {
+                    builder.append('/');
+                }
+                builder.append(c);
+            }
+        }
+        if (builder.length() > 1 && builder.charAt(builder.length() - 1) == '/') {
+            builder.setLength(builder.length() - 1);
+        }
+        return builder.isEmpty() ? "/" : builder.toString();
+    }
+
+    private static boolean isNormalized(String path) {
+        if (path.charAt(0) != '/') {
+            return false;
+        }
+        int length = path.length();
+        if (length > 1 && path.charAt(length - 1) == '/') {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = path.charAt(i);
+            if (c == ';' || (c == '/' && path.charAt(i - 1) == '/')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isPattern(String path) {
+        return path.indexOf('*') >= 0 || path.indexOf('{') >= 0 || path.indexOf('?') >= 0;
+    }
+
+    public record Route(String scope, RateLimitConfig.EndpointLimit limit) {
+    }
+
+    private record PatternRoute(PathPattern pattern, Route route) {
+    }
+}
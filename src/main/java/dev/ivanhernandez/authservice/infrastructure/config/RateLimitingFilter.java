@@ -3,29 +3,44 @@ package dev.ivanhernandez.authservice.infrastructure.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.ivanhernandez.authservice.application.dto.response.ErrorResponse;
 import dev.ivanhernandez.authservice.application.port.output.RateLimiter;
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private final RateLimiter rateLimiter;
-    private final RateLimitConfig rateLimitConfig;
+    private final RateLimiter gcraRateLimiter;
+    private final RateLimiter leasedRateLimiter;
+    private final RateLimitRouteTable routeTable;
+    private final ClientAddressResolver clientAddressResolver;
+    private final ThreadLocal<ClientAddressResolver.Address> addresses =
+            ThreadLocal.withInitial(ClientAddressResolver.Address::new);
     private final ObjectMapper objectMapper;
 
     public RateLimitingFilter(RateLimiter rateLimiter,
+                              @Qualifier("gcraRateLimiter") RateLimiter gcraRateLimiter,
+                              @Qualifier("leasedRateLimiter") Optional<RateLimiter> leasedRateLimiter,
                               RateLimitConfig rateLimitConfig,
+                              ClientAddressResolver clientAddressResolver,
                               ObjectMapper objectMapper) {
         this.rateLimiter = rateLimiter;
-        this.rateLimitConfig = rateLimitConfig;
+        this.gcraRateLimiter = gcraRateLimiter;
+        this.leasedRateLimiter = leasedRateLimiter.orElse(rateLimiter);
+        this.routeTable = new RateLimitRouteTable(rateLimitConfig.getEndpoints());
+        this.clientAddressResolver = clientAddressResolver;
         this.objectMapper = objectMapper;
     }
 
@@ -34,20 +49,31 @@ public class RateLimitingFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
-        String path = request.getRequestURI();
-        RateLimitConfig.EndpointLimit limit = rateLimitConfig.getLimit(path);
+        if (!"POST".equalsIgnoreCase(request.getMethod())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        if (limit == null || !"POST".equalsIgnoreCase(request.getMethod())) {
+        RateLimitRouteTable.Route route = routeTable.match(UrlPathHelper.defaultInstance.getLookupPathForRequest(request));
+        if (route == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        String clientIp = getClientIpAddress(request);
-        String key = path + ":" + clientIp;
+        RateLimitConfig.EndpointLimit limit = route.limit();
+        RateLimiter limiter = switch (limit.getAlgorithm()) {
+            case WINDOW -> rateLimiter;
+            case GCRA -> gcraRateLimiter;
+            case LEASED -> leasedRateLimiter;
+        };
 
-        if (!rateLimiter.isAllowed(key, limit.getMaxAttempts(), limit.getWindow())) {
-            long retryAfter = rateLimiter.getTimeToReset(key);
-            sendRateLimitExceededResponse(response, retryAfter);
+        ClientAddressResolver.Address address = addresses.get();
+        RateLimitDecision decision = clientAddressResolver.resolve(request, address)
+                ? limiter.tryAcquire(route.scope(), address.high(), address.low(), limit.getMaxAttempts(), limit.getWindow())
+                : limiter.tryAcquire(clientAddressResolver.resolve(route.scope(), request),
+                        limit.getMaxAttempts(), limit.getWindow());
+        if (!decision.allowed()) {
+            sendRateLimitExceededResponse(response, decision.retryAfterSeconds());
             return;
         }
 
@@ -66,16 +92,4 @@ public class RateLimitingFilter extends OncePerRequestFilter {
 
         objectMapper.writeValue(response.getOutputStream(), errorResponse);
     }
-
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        return request.getRemoteAddr();
-    }
 }
@@ -1,10 +1,14 @@
 package dev.ivanhernandez.authservice.infrastructure.config;
 
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.redis.RedisCacheInvalidationBus;
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.redis.RedisTokenBlacklist;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 @Profile("prod")
@@ -14,4 +18,15 @@ public class RedisConfig {
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
     }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       RedisTokenBlacklist tokenBlacklist,
+                                                                       RedisCacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenBlacklist, new ChannelTopic(RedisTokenBlacklist.CHANNEL));
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(RedisCacheInvalidationBus.CHANNEL));
+        return container;
+    }
 }
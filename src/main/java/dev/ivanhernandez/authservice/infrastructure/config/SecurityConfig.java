@@ -15,11 +15,14 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final RateLimitingFilter rateLimitingFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
 
     public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
-                          RateLimitingFilter rateLimitingFilter) {
+                          RateLimitingFilter rateLimitingFilter,
+                          ConcurrencyLimitFilter concurrencyLimitFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
         this.rateLimitingFilter = rateLimitingFilter;
+        this.concurrencyLimitFilter = concurrencyLimitFilter;
     }
 
     @Bean
@@ -36,7 +39,9 @@ public class SecurityConfig {
                                 "/api/v1/auth/verify-email",
                                 "/api/v1/auth/password/**",
                                 "/api/v1/tenants",
-                                "/api/v1/tenants/*"
+                                "/api/v1/tenants/*",
+                                "/.well-known/jwks.json",
+                                "/actuator/health"
                         ).permitAll()
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -48,6 +53,7 @@ public class SecurityConfig {
                 )
                 .addFilterBefore(rateLimitingFilter, UsernamePasswordAuthenticationFilter.class)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(concurrencyLimitFilter, JwtAuthenticationFilter.class)
                 .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()));
 
         return http.build();
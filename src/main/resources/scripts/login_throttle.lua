@@ -0,0 +1,52 @@
+-- Sliding-window failure counter with progressive lockout.
+-- KEYS[1] = counter key
+-- ARGV[1] = window in ms, ARGV[2] = '1' records a failure, '0' only checks
+-- ARGV[3] = failures before lockout, ARGV[4] = base lockout in ms, ARGV[5] = max lockout in ms
+-- The lockout doubles with every failure past the threshold and runs from the last failure.
+-- Returns the remaining lockout in ms, 0 when not locked
+
+local key = KEYS[1]
+local window = tonumber(ARGV[1])
+local fail = ARGV[2] == '1'
+local threshold = tonumber(ARGV[3])
+local base = tonumber(ARGV[4])
+local max = tonumber(ARGV[5])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local current_start = now - (now % window)
+
+local state = redis.call('HMGET', key, 'start', 'count', 'previous', 'last')
+local start = tonumber(state[1])
+local count = tonumber(state[2]) or 0
+local previous = tonumber(state[3]) or 0
+local last = tonumber(state[4]) or 0
+
+if start == nil then
+    start = current_start
+    count = 0
+    previous = 0
+elseif start < current_start then
+    if start == current_start - window then
+        previous = count
+    else
+        previous = 0
+    end
+    count = 0
+    start = current_start
+end
+
+if fail then
+    count = count + 1
+    last = now
+    redis.call('HSET', key, 'start', start, 'count', count, 'previous', previous, 'last', last)
+    redis.call('PEXPIRE', key, window * 2)
+end
+
+local failures = math.floor(previous * (window - (now - start)) / window + count)
+if failures < threshold then
+    return 0
+end
+
+local lockout = math.min(max, base * math.pow(2, math.min(failures - threshold, 62)))
+return math.max(0, last + lockout - now)
@@ -0,0 +1,84 @@
+-- Sliding-window-counter rate limiter.
+-- KEYS[1] = limiter key
+-- ARGV[1] = max requests per window, ARGV[2] = window in ms
+-- ARGV[3] = cost: > 0 consumes permits, 0 peeks without consuming, < 0 refunds unused leased permits
+-- ARGV[4] = '1' to grant fewer permits than requested when the full cost does not fit
+-- A peek may pass empty limit/window to reuse the ones stored by the last acquire.
+-- Returns { granted permits (1 for an allowed peek), retry after in ms }
+
+local key = KEYS[1]
+local cost = tonumber(ARGV[3])
+local partial = ARGV[4] == '1'
+
+local state = redis.call('HMGET', key, 'start', 'count', 'previous', 'limit', 'window')
+local limit = tonumber(ARGV[1]) or tonumber(state[4])
+local window = tonumber(ARGV[2]) or tonumber(state[5])
+if limit == nil or window == nil then
+    return { 1, 0 }
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local current_start = now - (now % window)
+
+local start = tonumber(state[1])
+local count = tonumber(state[2]) or 0
+local previous = tonumber(state[3]) or 0
+
+if cost < 0 then
+    if start == current_start then
+        redis.call('HSET', key, 'count', math.max(0, count + cost))
+    end
+    return { 0, 0 }
+end
+
+if start == nil then
+    start = current_start
+    count = 0
+    previous = 0
+elseif start < current_start then
+    if start == current_start - window then
+        previous = count
+    else
+        previous = 0
+    end
+    count = 0
+    start = current_start
+end
+
+local elapsed = now - start
+local estimated = previous * (window - elapsed) / window + count
+
+local needed = math.max(cost, 1)
+local granted = 0
+if estimated + needed <= limit then
+    granted = cost
+elseif partial and estimated + 1 <= limit then
+    granted = math.floor(limit - estimated)
+end
+
+if granted > 0 then
+    count = count + granted
+    redis.call('HSET', key, 'start', start, 'count', count, 'previous', previous, 'limit', limit, 'window', window)
+    redis.call('PEXPIRE', key, window * 2)
+    return { granted, 0 }
+end
+if cost == 0 and estimated + needed <= limit then
+    return { 1, 0 }
+end
+
+if partial then
+    needed = 1
+end
+local wait
+if count + needed <= limit then
+    -- the previous window's weight decays enough before this window ends
+    wait = math.ceil(window * (1 - (limit - count - needed) / previous)) - elapsed
+elseif needed <= limit and count > 0 then
+    -- this window's count becomes the decaying previous count of the next one
+    wait = (window - elapsed) + math.ceil(window * (1 - (limit - needed) / count))
+else
+    wait = window - elapsed
+end
+
+return { 0, math.max(wait, 1) }
@@ -229,7 +229,13 @@ class AuthServiceIntegrationTest {
                         .content("{\"refreshToken\": \"" + authResponse.refreshToken() + "\"}"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.accessToken").exists())
+                .andExpect(jsonPath("$.refreshToken").exists())
                 .andExpect(jsonPath("$.tokenType").value("Bearer"));
+
+        mockMvc.perform(post("/api/v1/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\": \"" + authResponse.refreshToken() + "\"}"))
+                .andExpect(status().isUnauthorized());
     }
 
     @Test
@@ -269,4 +275,11 @@ class AuthServiceIntegrationTest {
         mockMvc.perform(get("/api/v1/tenants/non-existent"))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("Info endpoint with the hashing calibration should require authentication")
+    void infoEndpoint_shouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/info"))
+                .andExpect(status().isForbidden());
+    }
 }
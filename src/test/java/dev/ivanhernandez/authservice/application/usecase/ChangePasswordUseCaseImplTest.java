@@ -4,6 +4,7 @@ import dev.ivanhernandez.authservice.application.dto.request.ChangePasswordReque
 import dev.ivanhernandez.authservice.application.port.output.PasswordEncoder;
 import dev.ivanhernandez.authservice.application.port.output.RefreshTokenRepository;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.InvalidCredentialsException;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
 import dev.ivanhernandez.authservice.domain.model.Role;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -31,6 +33,8 @@ class ChangePasswordUseCaseImplTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserSnapshotCache userSnapshotCache;
+    @Mock
     private RefreshTokenRepository refreshTokenRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -39,7 +43,8 @@ class ChangePasswordUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new ChangePasswordUseCaseImpl(userRepository, refreshTokenRepository, passwordEncoder);
+        useCase = new ChangePasswordUseCaseImpl(userRepository, userSnapshotCache, refreshTokenRepository, passwordEncoder,
+                TransactionOperations.withoutTransaction());
     }
 
     @Test
@@ -51,15 +56,17 @@ class ChangePasswordUseCaseImplTest {
                 true, true, Set.of(Role.USER), LocalDateTime.now(), LocalDateTime.now());
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("OldPass1!", "oldHash")).thenReturn(true);
-        when(passwordEncoder.encode("NewPass1!")).thenReturn("newHash");
-        when(userRepository.save(any())).thenReturn(user);
+        when(passwordEncoder.matches(tenant.getId(), "OldPass1!", "oldHash")).thenReturn(true);
+        when(passwordEncoder.encode(tenant.getId(), "NewPass1!")).thenReturn("newHash");
+        when(userRepository.updatePasswordHash(userId, "oldHash", "newHash")).thenReturn(true);
 
         ChangePasswordRequest request = new ChangePasswordRequest("OldPass1!", "NewPass1!");
         useCase.changePassword(userId, request);
 
-        verify(userRepository).save(any());
+        verify(userRepository).updatePasswordHash(userId, "oldHash", "newHash");
+        verify(userRepository, never()).save(any());
         verify(refreshTokenRepository).revokeAllByUserId(userId);
+        verify(userSnapshotCache).invalidate(userId);
     }
 
     @Test
@@ -81,11 +88,31 @@ class ChangePasswordUseCaseImplTest {
                 true, true, Set.of(Role.USER), LocalDateTime.now(), LocalDateTime.now());
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("WrongPass1!", "oldHash")).thenReturn(false);
+        when(passwordEncoder.matches(tenant.getId(), "WrongPass1!", "oldHash")).thenReturn(false);
 
         ChangePasswordRequest request = new ChangePasswordRequest("WrongPass1!", "NewPass1!");
         assertThrows(InvalidCredentialsException.class, () -> useCase.changePassword(userId, request));
 
-        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).updatePasswordHash(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("changePassword should fail without revoking tokens when the password changed during hashing")
+    void changePassword_shouldThrowInvalidCredentialsException_whenPasswordChangedConcurrently() {
+        UUID userId = UUID.randomUUID();
+        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+        User user = new User(userId, tenant, "john@acme.com", "oldHash", "John", "Doe",
+                true, true, Set.of(Role.USER), LocalDateTime.now(), LocalDateTime.now());
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(tenant.getId(), "OldPass1!", "oldHash")).thenReturn(true);
+        when(passwordEncoder.encode(tenant.getId(), "NewPass1!")).thenReturn("newHash");
+        when(userRepository.updatePasswordHash(userId, "oldHash", "newHash")).thenReturn(false);
+
+        ChangePasswordRequest request = new ChangePasswordRequest("OldPass1!", "NewPass1!");
+        assertThrows(InvalidCredentialsException.class, () -> useCase.changePassword(userId, request));
+
+        verify(refreshTokenRepository, never()).revokeAllByUserId(any());
+        verify(userSnapshotCache, never()).invalidate(any());
     }
 }
@@ -0,0 +1,51 @@
+package dev.ivanhernandez.authservice.application.usecase;
+
+import dev.ivanhernandez.authservice.application.dto.response.JwksResponse;
+import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetJwksUseCaseImplTest {
+
+    @Mock
+    private JwtProvider jwtProvider;
+
+    private GetJwksUseCaseImpl useCase;
+
+    @BeforeEach
+    void setUp() {
+        useCase = new GetJwksUseCaseImpl(jwtProvider);
+    }
+
+    @Test
+    @DisplayName("getJwks should return public keys from provider")
+    void getJwks_shouldReturnPublicKeys() {
+        Map<String, Object> jwk = Map.of("kty", "EC", "kid", "key-1", "crv", "P-256");
+        when(jwtProvider.getPublicJwks()).thenReturn(List.of(jwk));
+
+        JwksResponse response = useCase.getJwks();
+
+        assertEquals(List.of(jwk), response.keys());
+    }
+
+    @Test
+    @DisplayName("getJwks should return empty key set when no public keys exist")
+    void getJwks_shouldReturnEmptyKeySet_whenNoPublicKeys() {
+        when(jwtProvider.getPublicJwks()).thenReturn(List.of());
+
+        JwksResponse response = useCase.getJwks();
+
+        assertTrue(response.keys().isEmpty());
+    }
+}
@@ -1,7 +1,9 @@
 package dev.ivanhernandez.authservice.application.usecase;
 
 import dev.ivanhernandez.authservice.application.dto.response.UserProfileResponse;
+import dev.ivanhernandez.authservice.application.dto.response.UserProfileSnapshot;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
 import dev.ivanhernandez.authservice.domain.model.Role;
 import dev.ivanhernandez.authservice.domain.model.Tenant;
@@ -12,13 +14,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,22 +33,37 @@ class GetUserProfileUseCaseImplTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
 
     private GetUserProfileUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new GetUserProfileUseCaseImpl(userRepository);
+        useCase = new GetUserProfileUseCaseImpl(userRepository, userSnapshotCache,
+                TransactionOperations.withoutTransaction());
+    }
+
+    private User createUser(UUID userId, LocalDateTime updatedAt) {
+        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+        return new User(userId, tenant, "john@acme.com", "hash", "John", "Doe",
+                true, true, Set.of(Role.USER), LocalDateTime.now(), updatedAt);
+    }
+
+    private void cacheMisses(UUID userId) {
+        when(userSnapshotCache.findById(eq(userId), any())).thenAnswer(invocation -> {
+            Function<UUID, Optional<User>> loader = invocation.getArgument(1);
+            return loader.apply(userId);
+        });
     }
 
     @Test
     @DisplayName("getProfile should return user profile")
     void getProfile_shouldReturnUserProfile() {
         UUID userId = UUID.randomUUID();
-        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
-        User user = new User(userId, tenant, "john@acme.com", "hash", "John", "Doe",
-                true, true, Set.of(Role.USER), LocalDateTime.now(), LocalDateTime.now());
+        User user = createUser(userId, LocalDateTime.now());
 
+        cacheMisses(userId);
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 
         UserProfileResponse response = useCase.getProfile(userId);
@@ -57,8 +79,61 @@ class GetUserProfileUseCaseImplTest {
     @DisplayName("getProfile should throw UserNotFoundException when user not found")
     void getProfile_shouldThrowUserNotFoundException_whenUserNotFound() {
         UUID userId = UUID.randomUUID();
+        cacheMisses(userId);
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
 
         assertThrows(UserNotFoundException.class, () -> useCase.getProfile(userId));
     }
+
+    @Test
+    @DisplayName("getProfileSnapshot should not touch the repository when the user is cached")
+    void getProfileSnapshot_shouldUseCachedUser() {
+        UUID userId = UUID.randomUUID();
+        when(userSnapshotCache.findById(eq(userId), any()))
+                .thenReturn(Optional.of(createUser(userId, LocalDateTime.now())));
+
+        UserProfileSnapshot snapshot = useCase.getProfileSnapshot(userId);
+
+        assertEquals(userId, snapshot.profile().id());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("getProfileSnapshot should derive a strong ETag that changes with updatedAt")
+    void getProfileSnapshot_shouldDeriveEtagFromUpdatedAt() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(userSnapshotCache.findById(eq(userId), any()))
+                .thenReturn(Optional.of(createUser(userId, updatedAt)))
+                .thenReturn(Optional.of(createUser(userId, updatedAt)))
+                .thenReturn(Optional.of(createUser(userId, updatedAt.plusNanos(1_000))));
+
+        String first = useCase.getProfileSnapshot(userId).etag();
+        String same = useCase.getProfileSnapshot(userId).etag();
+        String changed = useCase.getProfileSnapshot(userId).etag();
+
+        assertTrue(first.startsWith("\"") && first.endsWith("\""));
+        assertFalse(first.startsWith("W/"));
+        assertEquals(first, same);
+        assertNotEquals(first, changed);
+    }
+
+    @Test
+    @DisplayName("getProfileSnapshot should change the ETag when the tenant is renamed")
+    void getProfileSnapshot_shouldChangeEtag_whenTenantRenamed() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        User user = createUser(userId, updatedAt);
+        Tenant renamed = new Tenant(user.getTenant().getId(), "ACME Corp", "acme", true, user.getTenant().getCreatedAt());
+        User renamedUser = new User(userId, renamed, user.getEmail(), user.getPasswordHash(), user.getFirstName(),
+                user.getLastName(), true, true, Set.of(Role.USER), user.getCreatedAt(), updatedAt);
+        when(userSnapshotCache.findById(eq(userId), any()))
+                .thenReturn(Optional.of(user))
+                .thenReturn(Optional.of(renamedUser));
+
+        String before = useCase.getProfileSnapshot(userId).etag();
+        String after = useCase.getProfileSnapshot(userId).etag();
+
+        assertNotEquals(before, after);
+    }
 }
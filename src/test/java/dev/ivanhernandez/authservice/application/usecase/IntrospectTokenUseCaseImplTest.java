@@ -3,6 +3,7 @@ package dev.ivanhernandez.authservice.application.usecase;
 import dev.ivanhernandez.authservice.application.dto.response.IntrospectResponse;
 import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
 import dev.ivanhernandez.authservice.application.port.output.TokenBlacklist;
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,6 +23,8 @@ import static org.mockito.Mockito.*;
 @DisplayName("IntrospectTokenUseCaseImpl")
 class IntrospectTokenUseCaseImplTest {
 
+    private static final String TOKEN_ID = "0b6f7c1e-3a41-4a0e-9f2e-6c1d2b7e8a90";
+
     @Mock
     private JwtProvider jwtProvider;
 
@@ -33,6 +38,18 @@ class IntrospectTokenUseCaseImplTest {
         useCase = new IntrospectTokenUseCaseImpl(jwtProvider, tokenBlacklist);
     }
 
+    private AccessTokenClaims createClaims(String userId, String tenantId) {
+        return new AccessTokenClaims(
+                TOKEN_ID,
+                userId,
+                tenantId,
+                "acme",
+                "user@acme.com",
+                List.of("USER", "ADMIN"),
+                Instant.now().plusSeconds(900)
+        );
+    }
+
     @Test
     @DisplayName("introspect should return active response for valid token")
     void introspect_shouldReturnActiveResponse_forValidToken() {
@@ -40,13 +57,9 @@ class IntrospectTokenUseCaseImplTest {
         UUID userId = UUID.randomUUID();
         UUID tenantId = UUID.randomUUID();
 
-        when(jwtProvider.validateToken(token)).thenReturn(true);
-        when(tokenBlacklist.isBlacklisted(token)).thenReturn(false);
-        when(jwtProvider.getUserIdFromToken(token)).thenReturn(userId.toString());
-        when(jwtProvider.getTenantIdFromToken(token)).thenReturn(tenantId.toString());
-        when(jwtProvider.getTenantSlugFromToken(token)).thenReturn("acme");
-        when(jwtProvider.getEmailFromToken(token)).thenReturn("user@acme.com");
-        when(jwtProvider.getRolesFromToken(token)).thenReturn(List.of("USER", "ADMIN"));
+        when(jwtProvider.parseAccessToken(token))
+                .thenReturn(Optional.of(createClaims(userId.toString(), tenantId.toString())));
+        when(tokenBlacklist.isBlacklisted(TOKEN_ID)).thenReturn(false);
 
         IntrospectResponse response = useCase.introspect(token);
 
@@ -63,7 +76,7 @@ class IntrospectTokenUseCaseImplTest {
     void introspect_shouldReturnInactiveResponse_forInvalidToken() {
         String token = "invalid.token.here";
 
-        when(jwtProvider.validateToken(token)).thenReturn(false);
+        when(jwtProvider.parseAccessToken(token)).thenReturn(Optional.empty());
 
         IntrospectResponse response = useCase.introspect(token);
 
@@ -77,8 +90,9 @@ class IntrospectTokenUseCaseImplTest {
     void introspect_shouldReturnInactiveResponse_forBlacklistedToken() {
         String token = "blacklisted.token.here";
 
-        when(jwtProvider.validateToken(token)).thenReturn(true);
-        when(tokenBlacklist.isBlacklisted(token)).thenReturn(true);
+        when(jwtProvider.parseAccessToken(token))
+                .thenReturn(Optional.of(createClaims(UUID.randomUUID().toString(), UUID.randomUUID().toString())));
+        when(tokenBlacklist.isBlacklisted(TOKEN_ID)).thenReturn(true);
 
         IntrospectResponse response = useCase.introspect(token);
 
@@ -91,9 +105,9 @@ class IntrospectTokenUseCaseImplTest {
     void introspect_shouldReturnInactiveResponse_whenParsingFails() {
         String token = "valid.but.unparseable";
 
-        when(jwtProvider.validateToken(token)).thenReturn(true);
-        when(tokenBlacklist.isBlacklisted(token)).thenReturn(false);
-        when(jwtProvider.getUserIdFromToken(token)).thenReturn("not-a-uuid");
+        when(jwtProvider.parseAccessToken(token))
+                .thenReturn(Optional.of(createClaims("not-a-uuid", UUID.randomUUID().toString())));
+        when(tokenBlacklist.isBlacklisted(TOKEN_ID)).thenReturn(false);
 
         IntrospectResponse response = useCase.introspect(token);
 
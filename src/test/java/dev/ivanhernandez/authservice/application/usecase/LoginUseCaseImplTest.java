@@ -4,7 +4,11 @@ import dev.ivanhernandez.authservice.application.dto.request.LoginRequest;
 import dev.ivanhernandez.authservice.application.dto.response.AuthResponse;
 import dev.ivanhernandez.authservice.application.port.output.*;
 import dev.ivanhernandez.authservice.domain.exception.InvalidCredentialsException;
+import dev.ivanhernandez.authservice.domain.exception.RateLimitExceededException;
+import dev.ivanhernandez.authservice.domain.exception.ServerBusyException;
 import dev.ivanhernandez.authservice.domain.exception.UserNotVerifiedException;
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
 import dev.ivanhernandez.authservice.domain.model.Role;
 import dev.ivanhernandez.authservice.domain.model.Tenant;
 import dev.ivanhernandez.authservice.domain.model.User;
@@ -14,14 +18,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,7 +42,9 @@ class LoginUseCaseImplTest {
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
     @Mock
-    private LoginAttemptRepository loginAttemptRepository;
+    private LoginAttemptRecorder loginAttemptRecorder;
+    @Mock
+    private LoginThrottle loginThrottle;
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
@@ -47,11 +59,14 @@ class LoginUseCaseImplTest {
         useCase = new LoginUseCaseImpl(
                 userRepository,
                 refreshTokenRepository,
-                loginAttemptRepository,
+                loginAttemptRecorder,
+                loginThrottle,
                 passwordEncoder,
                 jwtProvider,
-                tokenGenerator
+                tokenGenerator,
+                TransactionOperations.withoutTransaction()
         );
+        when(loginThrottle.check(anyString(), anyString(), anyString())).thenReturn(RateLimitDecision.allow());
     }
 
     private User createVerifiedUser(Tenant tenant) {
@@ -86,6 +101,51 @@ class LoginUseCaseImplTest {
         );
     }
 
+    @Test
+    @DisplayName("login should verify password outside a transaction and persist the session inside one")
+    void login_shouldVerifyPasswordOutsideTransaction() {
+        AtomicBoolean inTransaction = new AtomicBoolean();
+        AtomicInteger transactions = new AtomicInteger();
+        TransactionOperations trackingTransactions = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                transactions.incrementAndGet();
+                inTransaction.set(true);
+                try {
+                    return action.doInTransaction(new SimpleTransactionStatus());
+                } finally {
+                    inTransaction.set(false);
+                }
+            }
+        };
+        useCase = new LoginUseCaseImpl(userRepository, refreshTokenRepository, loginAttemptRecorder,
+                loginThrottle, passwordEncoder, jwtProvider, tokenGenerator, trackingTransactions);
+
+        LoginRequest request = new LoginRequest("acme", "john@acme.com", "password");
+        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+        User user = createVerifiedUser(tenant);
+
+        AuthPrincipal principal = AuthPrincipal.fromUser(user);
+        when(userRepository.findAuthPrincipalByEmailAndTenantSlug("john@acme.com", "acme"))
+                .thenReturn(Optional.of(principal));
+        when(passwordEncoder.matches(tenant.getId(), "password", "hashedPassword")).thenAnswer(invocation -> {
+            assertFalse(inTransaction.get());
+            return true;
+        });
+        when(jwtProvider.generateAccessToken(principal)).thenReturn("accessToken");
+        when(tokenGenerator.generateSecureToken(32)).thenReturn("refreshToken");
+        when(refreshTokenRepository.save(any())).thenAnswer(invocation -> {
+            assertTrue(inTransaction.get());
+            return invocation.getArgument(0);
+        });
+
+        useCase.login(request, "127.0.0.1", "Mozilla");
+
+        verify(passwordEncoder).matches(tenant.getId(), "password", "hashedPassword");
+        verify(refreshTokenRepository).save(any());
+        assertEquals(1, transactions.get());
+    }
+
     @Test
     @DisplayName("login should return tokens for valid credentials")
     void login_shouldReturnTokens_forValidCredentials() {
@@ -93,10 +153,11 @@ class LoginUseCaseImplTest {
         Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
         User user = createVerifiedUser(tenant);
 
-        when(userRepository.findByEmailAndTenantSlug("john@acme.com", "acme"))
-                .thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("password", "hashedPassword")).thenReturn(true);
-        when(jwtProvider.generateAccessToken(user)).thenReturn("accessToken");
+        AuthPrincipal principal = AuthPrincipal.fromUser(user);
+        when(userRepository.findAuthPrincipalByEmailAndTenantSlug("john@acme.com", "acme"))
+                .thenReturn(Optional.of(principal));
+        when(passwordEncoder.matches(tenant.getId(), "password", "hashedPassword")).thenReturn(true);
+        when(jwtProvider.generateAccessToken(principal)).thenReturn("accessToken");
         when(jwtProvider.getAccessTokenExpirationMs()).thenReturn(900000L);
         when(tokenGenerator.generateSecureToken(32)).thenReturn("refreshToken");
 
@@ -109,7 +170,64 @@ class LoginUseCaseImplTest {
         assertEquals(900, response.expiresIn());
 
         verify(refreshTokenRepository).save(any());
-        verify(loginAttemptRepository).save(any());
+        verify(loginAttemptRecorder).record(any());
+        verify(loginThrottle).recordSuccess("acme", "john@acme.com");
+    }
+
+    @Test
+    @DisplayName("login should upgrade the password hash when it was produced with outdated parameters")
+    void login_shouldUpgradePasswordHash_whenOutdated() {
+        LoginRequest request = new LoginRequest("acme", "john@acme.com", "password");
+        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+        User user = createVerifiedUser(tenant);
+
+        AuthPrincipal principal = AuthPrincipal.fromUser(user);
+        when(userRepository.findAuthPrincipalByEmailAndTenantSlug("john@acme.com", "acme"))
+                .thenReturn(Optional.of(principal));
+        when(passwordEncoder.matches(tenant.getId(), "password", "hashedPassword")).thenReturn(true);
+        when(passwordEncoder.needsRehash(tenant.getId(), "hashedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(tenant.getId(), "password")).thenReturn("upgradedHash");
+        when(jwtProvider.generateAccessToken(principal)).thenReturn("accessToken");
+        when(tokenGenerator.generateSecureToken(32)).thenReturn("refreshToken");
+
+        useCase.login(request, "127.0.0.1", "Mozilla");
+
+        verify(userRepository).rehashPassword(user.getId(), "hashedPassword", "upgradedHash");
+    }
+
+    @Test
+    @DisplayName("login should keep the current hash when the hashing pool is saturated")
+    void login_shouldKeepCurrentHash_whenHashingPoolSaturated() {
+        LoginRequest request = new LoginRequest("acme", "john@acme.com", "password");
+        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+        User user = createVerifiedUser(tenant);
+
+        AuthPrincipal principal = AuthPrincipal.fromUser(user);
+        when(userRepository.findAuthPrincipalByEmailAndTenantSlug("john@acme.com", "acme"))
+                .thenReturn(Optional.of(principal));
+        when(passwordEncoder.matches(tenant.getId(), "password", "hashedPassword")).thenReturn(true);
+        when(passwordEncoder.needsRehash(tenant.getId(), "hashedPassword")).thenReturn(true);
+        when(passwordEncoder.encode(tenant.getId(), "password")).thenThrow(new ServerBusyException(1));
+        when(jwtProvider.generateAccessToken(principal)).thenReturn("accessToken");
+        when(tokenGenerator.generateSecureToken(32)).thenReturn("refreshToken");
+
+        AuthResponse response = useCase.login(request, "127.0.0.1", "Mozilla");
+
+        assertEquals("accessToken", response.accessToken());
+        verify(userRepository, never()).rehashPassword(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("login should reject locked-out attempts before looking up the user or hashing")
+    void login_shouldRejectLockedOutAttempts_beforeHashing() {
+        LoginRequest request = new LoginRequest("acme", "john@acme.com", "password");
+        when(loginThrottle.check("acme", "john@acme.com", "127.0.0.1")).thenReturn(RateLimitDecision.reject(8));
+
+        RateLimitExceededException exception = assertThrows(RateLimitExceededException.class,
+                () -> useCase.login(request, "127.0.0.1", "Mozilla"));
+
+        assertEquals(8, exception.getRetryAfterSeconds());
+        verifyNoInteractions(userRepository, passwordEncoder, loginAttemptRecorder);
     }
 
     @Test
@@ -119,14 +237,16 @@ class LoginUseCaseImplTest {
         Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
         User user = createVerifiedUser(tenant);
 
-        when(userRepository.findByEmailAndTenantSlug("john@acme.com", "acme"))
-                .thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("wrongpassword", "hashedPassword")).thenReturn(false);
+        AuthPrincipal principal = AuthPrincipal.fromUser(user);
+        when(userRepository.findAuthPrincipalByEmailAndTenantSlug("john@acme.com", "acme"))
+                .thenReturn(Optional.of(principal));
+        when(passwordEncoder.matches(tenant.getId(), "wrongpassword", "hashedPassword")).thenReturn(false);
 
         assertThrows(InvalidCredentialsException.class,
                 () -> useCase.login(request, "127.0.0.1", "Mozilla"));
 
-        verify(loginAttemptRepository).save(any());
+        verify(loginAttemptRecorder).record(any());
+        verify(loginThrottle).recordFailure("acme", "john@acme.com", "127.0.0.1");
         verify(refreshTokenRepository, never()).save(any());
     }
 
@@ -135,13 +255,13 @@ class LoginUseCaseImplTest {
     void login_shouldThrowInvalidCredentialsException_forNonExistentUser() {
         LoginRequest request = new LoginRequest("acme", "unknown@acme.com", "password");
 
-        when(userRepository.findByEmailAndTenantSlug("unknown@acme.com", "acme"))
+        when(userRepository.findAuthPrincipalByEmailAndTenantSlug("unknown@acme.com", "acme"))
                 .thenReturn(Optional.empty());
 
         assertThrows(InvalidCredentialsException.class,
                 () -> useCase.login(request, "127.0.0.1", "Mozilla"));
 
-        verify(loginAttemptRepository).save(any());
+        verify(loginAttemptRecorder).record(any());
     }
 
     @Test
@@ -151,9 +271,10 @@ class LoginUseCaseImplTest {
         Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
         User user = createUnverifiedUser(tenant);
 
-        when(userRepository.findByEmailAndTenantSlug("john@acme.com", "acme"))
-                .thenReturn(Optional.of(user));
-        when(passwordEncoder.matches("password", "hashedPassword")).thenReturn(true);
+        AuthPrincipal principal = AuthPrincipal.fromUser(user);
+        when(userRepository.findAuthPrincipalByEmailAndTenantSlug("john@acme.com", "acme"))
+                .thenReturn(Optional.of(principal));
+        when(passwordEncoder.matches(tenant.getId(), "password", "hashedPassword")).thenReturn(true);
 
         assertThrows(UserNotVerifiedException.class,
                 () -> useCase.login(request, "127.0.0.1", "Mozilla"));
@@ -3,6 +3,7 @@ package dev.ivanhernandez.authservice.application.usecase;
 import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
 import dev.ivanhernandez.authservice.application.port.output.RefreshTokenRepository;
 import dev.ivanhernandez.authservice.application.port.output.TokenBlacklist;
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,15 +11,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class LogoutUseCaseImplTest {
 
+    private static final String TOKEN_ID = "0b6f7c1e-3a41-4a0e-9f2e-6c1d2b7e8a90";
+
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
@@ -35,6 +45,18 @@ class LogoutUseCaseImplTest {
         useCase = new LogoutUseCaseImpl(refreshTokenRepository, tokenBlacklist, jwtProvider);
     }
 
+    private AccessTokenClaims createClaims(UUID userId, long remainingSeconds) {
+        return new AccessTokenClaims(
+                TOKEN_ID,
+                userId.toString(),
+                UUID.randomUUID().toString(),
+                "acme",
+                "john@acme.com",
+                List.of("USER"),
+                Instant.now().plusSeconds(remainingSeconds)
+        );
+    }
+
     @Test
     @DisplayName("logout should revoke only the specific refresh token and blacklist access token")
     void logout_shouldRevokeOnlySpecificRefreshToken() {
@@ -42,11 +64,11 @@ class LogoutUseCaseImplTest {
         String accessToken = "valid.jwt.token";
         String refreshToken = "refresh-token-value";
 
-        when(jwtProvider.getRemainingExpirationSeconds(accessToken)).thenReturn(300L);
+        when(jwtProvider.parseAccessToken(accessToken)).thenReturn(Optional.of(createClaims(userId, 300)));
 
         useCase.logout(userId, accessToken, refreshToken);
 
-        verify(tokenBlacklist).blacklist(accessToken, 300L);
+        verify(tokenBlacklist).blacklist(eq(TOKEN_ID), longThat(seconds -> seconds > 290 && seconds <= 300));
         verify(refreshTokenRepository).revokeByTokenHash(anyString());
     }
 
@@ -56,11 +78,11 @@ class LogoutUseCaseImplTest {
         UUID userId = UUID.randomUUID();
         String accessToken = "valid.jwt.token";
 
-        when(jwtProvider.getRemainingExpirationSeconds(accessToken)).thenReturn(600L);
+        when(jwtProvider.parseAccessToken(accessToken)).thenReturn(Optional.of(createClaims(userId, 600)));
 
         useCase.logoutAllDevices(userId, accessToken);
 
-        verify(tokenBlacklist).blacklist(accessToken, 600L);
+        verify(tokenBlacklist).blacklist(eq(TOKEN_ID), longThat(seconds -> seconds > 590 && seconds <= 600));
         verify(refreshTokenRepository).revokeAllByUserId(userId);
     }
 
@@ -74,4 +96,18 @@ class LogoutUseCaseImplTest {
 
         verify(refreshTokenRepository).revokeByTokenHash(anyString());
     }
+
+    @Test
+    @DisplayName("logout should not blacklist an access token that fails verification")
+    void logout_shouldNotBlacklistInvalidAccessToken() {
+        UUID userId = UUID.randomUUID();
+        String accessToken = "tampered.jwt.token";
+
+        when(jwtProvider.parseAccessToken(accessToken)).thenReturn(Optional.empty());
+
+        useCase.logout(userId, accessToken, "refresh-token-value");
+
+        verify(tokenBlacklist, never()).blacklist(anyString(), anyLong());
+        verify(refreshTokenRepository).revokeByTokenHash(anyString());
+    }
 }
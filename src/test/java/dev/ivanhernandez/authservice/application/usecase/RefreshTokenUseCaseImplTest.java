@@ -3,10 +3,12 @@ package dev.ivanhernandez.authservice.application.usecase;
 import dev.ivanhernandez.authservice.application.dto.response.TokenResponse;
 import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
 import dev.ivanhernandez.authservice.application.port.output.RefreshTokenRepository;
+import dev.ivanhernandez.authservice.application.port.output.TokenGenerator;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
 import dev.ivanhernandez.authservice.domain.exception.InvalidTokenException;
 import dev.ivanhernandez.authservice.domain.exception.TokenExpiredException;
 import dev.ivanhernandez.authservice.domain.exception.TokenRevokedException;
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
 import dev.ivanhernandez.authservice.domain.model.RefreshToken;
 import dev.ivanhernandez.authservice.domain.model.Role;
 import dev.ivanhernandez.authservice.domain.model.Tenant;
@@ -15,8 +17,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -25,7 +29,8 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class RefreshTokenUseCaseImplTest {
@@ -36,37 +41,55 @@ class RefreshTokenUseCaseImplTest {
     private UserRepository userRepository;
     @Mock
     private JwtProvider jwtProvider;
+    @Mock
+    private TokenGenerator tokenGenerator;
 
     private RefreshTokenUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new RefreshTokenUseCaseImpl(refreshTokenRepository, userRepository, jwtProvider);
+        useCase = new RefreshTokenUseCaseImpl(refreshTokenRepository, userRepository, jwtProvider,
+                tokenGenerator, TransactionOperations.withoutTransaction());
     }
 
     @Test
-    @DisplayName("refresh should return new access token for valid refresh token")
+    @DisplayName("refresh should return new access token and rotated refresh token for valid refresh token")
     void refresh_shouldReturnNewAccessToken_forValidRefreshToken() {
         UUID userId = UUID.randomUUID();
+        UUID familyId = UUID.randomUUID();
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(30);
         RefreshToken storedToken = new RefreshToken(
                 UUID.randomUUID(), userId, "hashedToken",
-                LocalDateTime.now().plusDays(30), false, LocalDateTime.now()
+                expiresAt, false, LocalDateTime.now(), familyId, null
         );
         Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
         User user = new User(userId, tenant, "john@acme.com", "hash", "John", "Doe",
                 true, true, Set.of(Role.USER), LocalDateTime.now(), LocalDateTime.now());
 
         when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(storedToken));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(jwtProvider.generateAccessToken(user)).thenReturn("newAccessToken");
+        AuthPrincipal principal = AuthPrincipal.fromUser(user);
+        when(userRepository.findAuthPrincipalById(userId)).thenReturn(Optional.of(principal));
+        when(jwtProvider.generateAccessToken(principal)).thenReturn("newAccessToken");
         when(jwtProvider.getAccessTokenExpirationMs()).thenReturn(900000L);
+        when(tokenGenerator.generateSecureToken(32)).thenReturn("newRefreshToken");
+        when(refreshTokenRepository.consume(eq(storedToken.getId()), any())).thenReturn(true);
 
         TokenResponse response = useCase.refresh("refreshToken");
 
         assertNotNull(response);
         assertEquals("newAccessToken", response.accessToken());
+        assertEquals("newRefreshToken", response.refreshToken());
         assertEquals("Bearer", response.tokenType());
         assertEquals(900, response.expiresIn());
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken successor = captor.getValue();
+        assertEquals(userId, successor.getUserId());
+        assertEquals(familyId, successor.getFamilyId());
+        assertEquals(expiresAt, successor.getExpiresAt());
+        assertNotEquals("hashedToken", successor.getTokenHash());
+        assertFalse(successor.isConsumed());
     }
 
     @Test
@@ -102,4 +125,71 @@ class RefreshTokenUseCaseImplTest {
 
         assertThrows(TokenExpiredException.class, () -> useCase.refresh("refreshToken"));
     }
+
+    @Test
+    @DisplayName("refresh should revoke the token family when a consumed token is reused")
+    void refresh_shouldRevokeFamily_whenConsumedTokenIsReused() {
+        UUID familyId = UUID.randomUUID();
+        RefreshToken storedToken = new RefreshToken(
+                UUID.randomUUID(), UUID.randomUUID(), "hashedToken",
+                LocalDateTime.now().plusDays(29), false, LocalDateTime.now().minusDays(1),
+                familyId, LocalDateTime.now().minusHours(1)
+        );
+
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(storedToken));
+
+        assertThrows(TokenRevokedException.class, () -> useCase.refresh("refreshToken"));
+
+        verify(refreshTokenRepository).revokeFamily(familyId);
+        verify(refreshTokenRepository, never()).consume(any(), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("refresh should reject without revoking the family when a token is reused right after rotation")
+    void refresh_shouldNotRevokeFamily_whenReusedWithinGracePeriod() {
+        RefreshToken storedToken = new RefreshToken(
+                UUID.randomUUID(), UUID.randomUUID(), "hashedToken",
+                LocalDateTime.now().plusDays(30), false, LocalDateTime.now(),
+                UUID.randomUUID(), LocalDateTime.now()
+        );
+
+        when(refreshTokenRepository.findByTokenHash(any())).thenReturn(Optional.of(storedToken));
+
+        assertThrows(TokenRevokedException.class, () -> useCase.refresh("refreshToken"));
+
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("refresh should not issue a new token when a concurrent refresh consumed it first")
+    void refresh_shouldNotIssueToken_whenConcurrentRefreshWins() {
+        UUID userId = UUID.randomUUID();
+        UUID tokenId = UUID.randomUUID();
+        UUID familyId = UUID.randomUUID();
+        LocalDateTime expiresAt = LocalDateTime.now().plusDays(30);
+        RefreshToken storedToken = new RefreshToken(
+                tokenId, userId, "hashedToken", expiresAt, false, LocalDateTime.now(), familyId, null
+        );
+        RefreshToken consumedToken = new RefreshToken(
+                tokenId, userId, "hashedToken", expiresAt, false, LocalDateTime.now(), familyId, LocalDateTime.now()
+        );
+        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+        User user = new User(userId, tenant, "john@acme.com", "hash", "John", "Doe",
+                true, true, Set.of(Role.USER), LocalDateTime.now(), LocalDateTime.now());
+
+        when(refreshTokenRepository.findByTokenHash(any()))
+                .thenReturn(Optional.of(storedToken))
+                .thenReturn(Optional.of(consumedToken));
+        when(userRepository.findAuthPrincipalById(userId)).thenReturn(Optional.of(AuthPrincipal.fromUser(user)));
+        when(tokenGenerator.generateSecureToken(32)).thenReturn("newRefreshToken");
+        when(refreshTokenRepository.consume(eq(tokenId), any())).thenReturn(false);
+
+        assertThrows(TokenRevokedException.class, () -> useCase.refresh("refreshToken"));
+
+        verify(refreshTokenRepository, never()).save(any());
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+        verify(jwtProvider, never()).generateAccessToken(any(AuthPrincipal.class));
+    }
 }
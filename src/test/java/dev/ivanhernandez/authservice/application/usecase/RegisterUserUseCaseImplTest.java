@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -48,7 +50,8 @@ class RegisterUserUseCaseImplTest {
                 verificationTokenRepository,
                 passwordEncoder,
                 tokenGenerator,
-                emailSender
+                emailSender,
+                TransactionOperations.withoutTransaction()
         );
     }
 
@@ -67,7 +70,7 @@ class RegisterUserUseCaseImplTest {
 
         when(tenantRepository.findBySlug("acme")).thenReturn(Optional.of(tenant));
         when(userRepository.existsByEmailAndTenantId(any(), any())).thenReturn(false);
-        when(passwordEncoder.encode("SecurePass1!")).thenReturn("hashedPassword");
+        when(passwordEncoder.encode(tenant.getId(), "SecurePass1!")).thenReturn("hashedPassword");
         when(tokenGenerator.generateSecureToken(32)).thenReturn("verificationToken");
         when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
             User user = invocation.getArgument(0);
@@ -137,4 +140,28 @@ class RegisterUserUseCaseImplTest {
 
         verify(userRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("register should throw UserAlreadyExistsException when a concurrent registration wins the insert")
+    void register_shouldThrowUserAlreadyExistsException_whenInsertViolatesUniqueEmail() {
+        RegisterRequest request = new RegisterRequest(
+                "acme",
+                "john@acme.com",
+                "SecurePass1!",
+                "John",
+                "Doe"
+        );
+
+        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+
+        when(tenantRepository.findBySlug("acme")).thenReturn(Optional.of(tenant));
+        when(userRepository.existsByEmailAndTenantId("john@acme.com", tenant.getId())).thenReturn(false);
+        when(passwordEncoder.encode(tenant.getId(), "SecurePass1!")).thenReturn("hashedPassword");
+        when(tokenGenerator.generateSecureToken(32)).thenReturn("token");
+        when(userRepository.save(any())).thenThrow(new DataIntegrityViolationException("uk_users_tenant_email"));
+
+        assertThrows(UserAlreadyExistsException.class, () -> useCase.register(request));
+
+        verify(emailSender, never()).sendVerificationEmail(any(), any(), any());
+    }
 }
@@ -5,6 +5,7 @@ import dev.ivanhernandez.authservice.application.port.output.PasswordEncoder;
 import dev.ivanhernandez.authservice.application.port.output.PasswordResetTokenRepository;
 import dev.ivanhernandez.authservice.application.port.output.RefreshTokenRepository;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.InvalidTokenException;
 import dev.ivanhernandez.authservice.domain.exception.TokenExpiredException;
 import dev.ivanhernandez.authservice.domain.model.PasswordResetToken;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -35,6 +37,8 @@ class ResetPasswordUseCaseImplTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserSnapshotCache userSnapshotCache;
+    @Mock
     private RefreshTokenRepository refreshTokenRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -43,7 +47,9 @@ class ResetPasswordUseCaseImplTest {
 
     @BeforeEach
     void setUp() {
-        useCase = new ResetPasswordUseCaseImpl(tokenRepository, userRepository, refreshTokenRepository, passwordEncoder);
+        useCase = new ResetPasswordUseCaseImpl(tokenRepository, userRepository, userSnapshotCache, refreshTokenRepository,
+                passwordEncoder,
+                TransactionOperations.withoutTransaction());
     }
 
     @Test
@@ -60,15 +66,17 @@ class ResetPasswordUseCaseImplTest {
 
         when(tokenRepository.findByToken("token123")).thenReturn(Optional.of(token));
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(passwordEncoder.encode("NewSecurePass1!")).thenReturn("newHash");
-        when(userRepository.save(any())).thenReturn(user);
+        when(passwordEncoder.encode(tenant.getId(), "NewSecurePass1!")).thenReturn("newHash");
+        when(userRepository.updatePasswordHash(userId, "oldHash", "newHash")).thenReturn(true);
 
         ResetPasswordRequest request = new ResetPasswordRequest("token123", "NewSecurePass1!");
         useCase.reset(request);
 
-        verify(userRepository).save(any());
+        verify(userRepository).updatePasswordHash(userId, "oldHash", "newHash");
+        verify(userRepository, never()).save(any());
         verify(tokenRepository).save(any());
         verify(refreshTokenRepository).revokeAllByUserId(userId);
+        verify(userSnapshotCache).invalidate(userId);
     }
 
     @Test
@@ -3,6 +3,7 @@ package dev.ivanhernandez.authservice.application.usecase;
 import dev.ivanhernandez.authservice.application.dto.request.UpdateUserProfileRequest;
 import dev.ivanhernandez.authservice.application.dto.response.UserProfileResponse;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
 import dev.ivanhernandez.authservice.domain.model.Role;
 import dev.ivanhernandez.authservice.domain.model.Tenant;
@@ -21,6 +22,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,12 +30,14 @@ class UpdateUserProfileUseCaseImplTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
 
     private UpdateUserProfileUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new UpdateUserProfileUseCaseImpl(userRepository);
+        useCase = new UpdateUserProfileUseCaseImpl(userRepository, userSnapshotCache);
     }
 
     @Test
@@ -53,6 +57,7 @@ class UpdateUserProfileUseCaseImplTest {
         assertNotNull(response);
         assertEquals("Jane", response.firstName());
         assertEquals("Smith", response.lastName());
+        verify(userSnapshotCache).invalidate(userId);
     }
 
     @Test
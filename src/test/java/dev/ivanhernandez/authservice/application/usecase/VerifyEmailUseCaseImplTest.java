@@ -3,6 +3,7 @@ package dev.ivanhernandez.authservice.application.usecase;
 import dev.ivanhernandez.authservice.application.port.output.EmailSender;
 import dev.ivanhernandez.authservice.application.port.output.EmailVerificationTokenRepository;
 import dev.ivanhernandez.authservice.application.port.output.UserRepository;
+import dev.ivanhernandez.authservice.application.port.output.UserSnapshotCache;
 import dev.ivanhernandez.authservice.domain.exception.InvalidTokenException;
 import dev.ivanhernandez.authservice.domain.exception.TokenExpiredException;
 import dev.ivanhernandez.authservice.domain.exception.UserNotFoundException;
@@ -34,13 +35,15 @@ class VerifyEmailUseCaseImplTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserSnapshotCache userSnapshotCache;
+    @Mock
     private EmailSender emailSender;
 
     private VerifyEmailUseCaseImpl useCase;
 
     @BeforeEach
     void setUp() {
-        useCase = new VerifyEmailUseCaseImpl(tokenRepository, userRepository, emailSender);
+        useCase = new VerifyEmailUseCaseImpl(tokenRepository, userRepository, userSnapshotCache, emailSender);
     }
 
     @Test
@@ -64,6 +67,7 @@ class VerifyEmailUseCaseImplTest {
         verify(userRepository).save(any());
         verify(tokenRepository).save(any());
         verify(emailSender).sendWelcomeEmail("john@acme.com", "John");
+        verify(userSnapshotCache).invalidate(any());
     }
 
     @Test
@@ -0,0 +1,65 @@
+package dev.ivanhernandez.authservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessTokenClaimsTest {
+
+    private AccessTokenClaims createClaims(List<String> roles, Instant expiresAt) {
+        return new AccessTokenClaims(
+                "token-id",
+                UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(),
+                "acme",
+                "john@acme.com",
+                roles,
+                expiresAt
+        );
+    }
+
+    @Test
+    @DisplayName("roles should be an immutable copy")
+    void roles_shouldBeImmutableCopy() {
+        List<String> roles = new ArrayList<>(List.of("USER"));
+        AccessTokenClaims claims = createClaims(roles, Instant.now().plusSeconds(60));
+
+        roles.add("ADMIN");
+
+        assertEquals(List.of("USER"), claims.roles());
+        assertThrows(UnsupportedOperationException.class, () -> claims.roles().add("ADMIN"));
+    }
+
+    @Test
+    @DisplayName("roles should default to empty list when missing")
+    void roles_shouldDefaultToEmptyList() {
+        AccessTokenClaims claims = createClaims(null, Instant.now().plusSeconds(60));
+
+        assertTrue(claims.roles().isEmpty());
+    }
+
+    @Test
+    @DisplayName("getRemainingSeconds should return zero for expired claims")
+    void getRemainingSeconds_shouldReturnZero_forExpiredClaims() {
+        AccessTokenClaims claims = createClaims(List.of("USER"), Instant.now().minusSeconds(60));
+
+        assertTrue(claims.isExpired());
+        assertEquals(0, claims.getRemainingSeconds());
+    }
+
+    @Test
+    @DisplayName("getRemainingSeconds should return remaining lifetime")
+    void getRemainingSeconds_shouldReturnRemainingLifetime() {
+        AccessTokenClaims claims = createClaims(List.of("USER"), Instant.now().plusSeconds(300));
+
+        assertFalse(claims.isExpired());
+        assertTrue(claims.getRemainingSeconds() > 290);
+        assertTrue(claims.getRemainingSeconds() <= 300);
+    }
+}
@@ -0,0 +1,46 @@
+package dev.ivanhernandez.authservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitKeyTest {
+
+    @Test
+    @DisplayName("ipv4 keys should be stored as IPv4-mapped addresses")
+    void ipv4_shouldUseMappedRepresentation() {
+        RateLimitKey key = RateLimitKey.ipv4("/login", 0xC0A80001);
+
+        assertTrue(key.isIpv4());
+        assertEquals(0, key.addressHigh());
+        assertEquals(0x0000ffffC0A80001L, key.addressLow());
+        assertEquals("/login:192.168.0.1", key.asString());
+    }
+
+    @Test
+    @DisplayName("IPv6 keys should format all eight groups")
+    void asString_shouldFormatIpv6() {
+        RateLimitKey key = new RateLimitKey("/login", 0x20010db800000000L, 0x0000000000000001L);
+
+        assertFalse(key.isIpv4());
+        assertEquals("/login:2001:db8:0:0:0:0:0:1", key.asString());
+    }
+
+    @Test
+    @DisplayName("keys without an address should format as the scope alone")
+    void asString_shouldReturnScope_whenNoAddress() {
+        RateLimitKey key = RateLimitKey.of("custom-key");
+
+        assertFalse(key.hasAddress());
+        assertEquals("custom-key", key.asString());
+    }
+
+    @Test
+    @DisplayName("keys with the same scope and address should be equal")
+    void equals_shouldCompareScopeAndAddress() {
+        assertEquals(RateLimitKey.ipv4("/login", 1), RateLimitKey.ipv4("/login", 1));
+        assertNotEquals(RateLimitKey.ipv4("/login", 1), RateLimitKey.ipv4("/register", 1));
+        assertNotEquals(RateLimitKey.ipv4("/login", 1), RateLimitKey.ipv4("/login", 2));
+    }
+}
@@ -62,4 +62,45 @@ class RefreshTokenTest {
         assertTrue(token.isExpired());
         assertFalse(token.isValid());
     }
+
+    @Test
+    @DisplayName("rotate should keep the family and expiry of the rotated token")
+    void rotate_shouldKeepFamilyAndExpiry() {
+        RefreshToken token = RefreshToken.create(UUID.randomUUID(), "hashedToken");
+
+        RefreshToken successor = token.rotate("newHashedToken");
+
+        assertNull(successor.getId());
+        assertEquals(token.getUserId(), successor.getUserId());
+        assertEquals("newHashedToken", successor.getTokenHash());
+        assertEquals(token.getFamilyId(), successor.getFamilyId());
+        assertEquals(token.getExpiresAt(), successor.getExpiresAt());
+        assertFalse(successor.isConsumed());
+    }
+
+    @Test
+    @DisplayName("getFamilyId should fall back to the token id for tokens issued before rotation")
+    void getFamilyId_shouldFallBackToId_whenFamilyMissing() {
+        UUID id = UUID.randomUUID();
+        RefreshToken token = new RefreshToken(id, UUID.randomUUID(), "hashedToken",
+                LocalDateTime.now().plusDays(1), false, LocalDateTime.now());
+
+        assertEquals(id, token.getFamilyId());
+        assertEquals(id, token.rotate("newHashedToken").getFamilyId());
+    }
+
+    @Test
+    @DisplayName("isWithinReuseGrace should only hold shortly after the token was consumed")
+    void isWithinReuseGrace_shouldOnlyHoldShortlyAfterConsumption() {
+        RefreshToken justConsumed = new RefreshToken(UUID.randomUUID(), UUID.randomUUID(), "hashedToken",
+                LocalDateTime.now().plusDays(1), false, LocalDateTime.now(), UUID.randomUUID(), LocalDateTime.now());
+        RefreshToken consumedEarlier = new RefreshToken(UUID.randomUUID(), UUID.randomUUID(), "hashedToken",
+                LocalDateTime.now().plusDays(1), false, LocalDateTime.now(), UUID.randomUUID(),
+                LocalDateTime.now().minusMinutes(1));
+
+        assertTrue(justConsumed.isWithinReuseGrace());
+        assertFalse(justConsumed.isValid());
+        assertFalse(consumedEarlier.isWithinReuseGrace());
+        assertFalse(RefreshToken.create(UUID.randomUUID(), "hashedToken").isWithinReuseGrace());
+    }
 }
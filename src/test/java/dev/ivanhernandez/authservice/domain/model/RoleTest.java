@@ -0,0 +1,37 @@
+package dev.ivanhernandez.authservice.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoleTest {
+
+    @Test
+    @DisplayName("every role should own a distinct single bit")
+    void roles_shouldOwnDistinctBits() {
+        int seen = 0;
+        for (Role role : Role.values()) {
+            assertEquals(1, Integer.bitCount(role.bit()));
+            assertEquals(0, seen & role.bit());
+            seen |= role.bit();
+        }
+    }
+
+    @Test
+    @DisplayName("toMask and fromMask should round-trip any combination of roles")
+    void toMask_shouldRoundTripWithFromMask() {
+        assertEquals(Set.of(), Role.fromMask(Role.toMask(Set.of())));
+        assertEquals(Set.of(Role.USER), Role.fromMask(Role.toMask(Set.of(Role.USER))));
+        assertEquals(EnumSet.allOf(Role.class), Role.fromMask(Role.toMask(EnumSet.allOf(Role.class))));
+    }
+
+    @Test
+    @DisplayName("fromMask should ignore bits that do not belong to a known role")
+    void fromMask_shouldIgnoreUnknownBits() {
+        assertEquals(Set.of(Role.USER), Role.fromMask(Role.USER.bit() | 1 << 30));
+    }
+}
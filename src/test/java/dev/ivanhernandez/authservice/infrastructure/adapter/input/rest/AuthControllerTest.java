@@ -13,6 +13,7 @@ import dev.ivanhernandez.authservice.application.port.output.RateLimiter;
 import dev.ivanhernandez.authservice.application.port.output.TokenBlacklist;
 import dev.ivanhernandez.authservice.domain.exception.InvalidCredentialsException;
 import dev.ivanhernandez.authservice.domain.exception.UserAlreadyExistsException;
+import dev.ivanhernandez.authservice.infrastructure.config.RateLimitConfig;
 import dev.ivanhernandez.authservice.infrastructure.config.RateLimitingFilter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,6 +23,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -30,6 +32,8 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -37,6 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(value = AuthController.class, excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = RateLimitingFilter.class))
 @AutoConfigureMockMvc(addFilters = false)
+@Import(RateLimitConfig.class)
 class AuthControllerTest {
 
     @Autowired
@@ -207,6 +212,48 @@ class AuthControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    @DisplayName("POST /auth/login should ignore X-Forwarded-For sent by an untrusted client")
+    void login_shouldIgnoreForwardedFor_whenClientUntrusted() throws Exception {
+        LoginRequest request = new LoginRequest("acme", "john@acme.com", "wrongpassword");
+
+        when(loginUseCase.login(any(), any(), any()))
+                .thenThrow(new InvalidCredentialsException());
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .with(req -> {
+                            req.setRemoteAddr("203.0.113.7");
+                            return req;
+                        })
+                        .header("X-Forwarded-For", "198.51.100.1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized());
+
+        verify(loginUseCase).login(any(), eq("203.0.113.7"), any());
+    }
+
+    @Test
+    @DisplayName("POST /auth/login should use X-Forwarded-For appended by a trusted proxy")
+    void login_shouldUseForwardedFor_whenProxyTrusted() throws Exception {
+        LoginRequest request = new LoginRequest("acme", "john@acme.com", "wrongpassword");
+
+        when(loginUseCase.login(any(), any(), any()))
+                .thenThrow(new InvalidCredentialsException());
+
+        mockMvc.perform(post("/api/v1/auth/login")
+                        .with(req -> {
+                            req.setRemoteAddr("10.0.0.2");
+                            return req;
+                        })
+                        .header("X-Forwarded-For", "1.1.1.1, 198.51.100.1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnauthorized());
+
+        verify(loginUseCase).login(any(), eq("198.51.100.1"), any());
+    }
+
     @Test
     @DisplayName("POST /auth/introspect should return active response for valid token")
     void introspect_shouldReturnActiveResponse_forValidToken() throws Exception {
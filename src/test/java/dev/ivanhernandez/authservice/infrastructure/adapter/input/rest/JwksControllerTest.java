@@ -0,0 +1,56 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.input.rest;
+
+import dev.ivanhernandez.authservice.application.dto.response.JwksResponse;
+import dev.ivanhernandez.authservice.application.port.input.GetJwksUseCase;
+import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
+import dev.ivanhernandez.authservice.application.port.output.RateLimiter;
+import dev.ivanhernandez.authservice.application.port.output.TokenBlacklist;
+import dev.ivanhernandez.authservice.infrastructure.config.RateLimitingFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(value = JwksController.class, excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = RateLimitingFilter.class))
+@AutoConfigureMockMvc(addFilters = false)
+class JwksControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetJwksUseCase getJwksUseCase;
+    @MockBean
+    private JwtProvider jwtProvider;
+    @MockBean
+    private RateLimiter rateLimiter;
+    @MockBean
+    private TokenBlacklist tokenBlacklist;
+
+    @Test
+    @DisplayName("GET /.well-known/jwks.json should return key set with cache headers")
+    void getJwks_shouldReturnKeySet() throws Exception {
+        Map<String, Object> jwk = Map.of("kty", "RSA", "kid", "key-1", "alg", "RS256", "use", "sig", "n", "abc", "e", "AQAB");
+        when(getJwksUseCase.getJwks()).thenReturn(JwksResponse.of(List.of(jwk)));
+
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(jsonPath("$.keys[0].kid").value("key-1"))
+                .andExpect(jsonPath("$.keys[0].kty").value("RSA"));
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import dev.ivanhernandez.authservice.application.dto.request.ChangePasswordRequest;
 import dev.ivanhernandez.authservice.application.dto.request.UpdateUserProfileRequest;
 import dev.ivanhernandez.authservice.application.dto.response.UserProfileResponse;
+import dev.ivanhernandez.authservice.application.dto.response.UserProfileSnapshot;
 import dev.ivanhernandez.authservice.application.port.input.ChangePasswordUseCase;
 import dev.ivanhernandez.authservice.application.port.input.GetUserProfileUseCase;
 import dev.ivanhernandez.authservice.application.port.input.UpdateUserProfileUseCase;
@@ -11,6 +12,7 @@ import dev.ivanhernandez.authservice.application.port.output.JwtProvider;
 import dev.ivanhernandez.authservice.application.port.output.RateLimiter;
 import dev.ivanhernandez.authservice.application.port.output.TokenBlacklist;
 import dev.ivanhernandez.authservice.domain.exception.InvalidCredentialsException;
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
 import dev.ivanhernandez.authservice.infrastructure.config.RateLimitingFilter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,8 +25,10 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -32,6 +36,8 @@ import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -58,6 +64,8 @@ class UserControllerTest {
     @MockBean
     private TokenBlacklist tokenBlacklist;
 
+    private static final String ETAG = "\"user-etag\"";
+
     private final UUID userId = UUID.randomUUID();
 
     private UserProfileResponse createUserProfileResponse() {
@@ -74,16 +82,55 @@ class UserControllerTest {
         );
     }
 
+    private AccessTokenClaims createAccessTokenClaims() {
+        return new AccessTokenClaims(
+                null,
+                userId.toString(),
+                UUID.randomUUID().toString(),
+                "acme",
+                "john@acme.com",
+                List.of("USER"),
+                Instant.now().plusSeconds(900)
+        );
+    }
+
     @Test
     @DisplayName("GET /users/me should return user profile")
     void getProfile_shouldReturnUserProfile() throws Exception {
         UserProfileResponse response = createUserProfileResponse();
 
-        when(jwtProvider.validateToken(any())).thenReturn(true);
-        when(jwtProvider.getUserIdFromToken(any())).thenReturn(userId.toString());
-        when(getUserProfileUseCase.getProfile(any())).thenReturn(response);
+        when(jwtProvider.parseAccessToken(any())).thenReturn(Optional.of(createAccessTokenClaims()));
+        when(getUserProfileUseCase.getProfileSnapshot(any())).thenReturn(new UserProfileSnapshot(response, ETAG));
+
+        mockMvc.perform(get("/api/v1/users/me")
+                        .with(user(userId.toString())))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(jsonPath("$.email").value("john@acme.com"));
+    }
+
+    @Test
+    @DisplayName("GET /users/me should return 304 without a body when If-None-Match matches")
+    void getProfile_shouldReturnNotModified_whenEtagMatches() throws Exception {
+        when(getUserProfileUseCase.getProfileSnapshot(any()))
+                .thenReturn(new UserProfileSnapshot(createUserProfileResponse(), ETAG));
+
+        mockMvc.perform(get("/api/v1/users/me")
+                        .header("If-None-Match", ETAG)
+                        .with(user(userId.toString())))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", ETAG))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("GET /users/me should return the profile when If-None-Match is stale")
+    void getProfile_shouldReturnProfile_whenEtagStale() throws Exception {
+        when(getUserProfileUseCase.getProfileSnapshot(any()))
+                .thenReturn(new UserProfileSnapshot(createUserProfileResponse(), ETAG));
 
         mockMvc.perform(get("/api/v1/users/me")
+                        .header("If-None-Match", "\"stale\"")
                         .with(user(userId.toString())))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.email").value("john@acme.com"));
@@ -105,8 +152,7 @@ class UserControllerTest {
                 LocalDateTime.now()
         );
 
-        when(jwtProvider.validateToken(any())).thenReturn(true);
-        when(jwtProvider.getUserIdFromToken(any())).thenReturn(userId.toString());
+        when(jwtProvider.parseAccessToken(any())).thenReturn(Optional.of(createAccessTokenClaims()));
         when(updateUserProfileUseCase.update(any(), any())).thenReturn(response);
 
         mockMvc.perform(put("/api/v1/users/me")
@@ -123,8 +169,7 @@ class UserControllerTest {
     void changePassword_shouldChangePassword() throws Exception {
         ChangePasswordRequest request = new ChangePasswordRequest("OldPass1!", "NewPass1!");
 
-        when(jwtProvider.validateToken(any())).thenReturn(true);
-        when(jwtProvider.getUserIdFromToken(any())).thenReturn(userId.toString());
+        when(jwtProvider.parseAccessToken(any())).thenReturn(Optional.of(createAccessTokenClaims()));
         doNothing().when(changePasswordUseCase).changePassword(any(), any());
 
         mockMvc.perform(put("/api/v1/users/me/password")
@@ -140,8 +185,7 @@ class UserControllerTest {
     void changePassword_shouldReturn401_forWrongCurrentPassword() throws Exception {
         ChangePasswordRequest request = new ChangePasswordRequest("WrongPass1!", "NewPass1!");
 
-        when(jwtProvider.validateToken(any())).thenReturn(true);
-        when(jwtProvider.getUserIdFromToken(any())).thenReturn(userId.toString());
+        when(jwtProvider.parseAccessToken(any())).thenReturn(Optional.of(createAccessTokenClaims()));
         doThrow(new InvalidCredentialsException()).when(changePasswordUseCase).changePassword(any(), any());
 
         mockMvc.perform(put("/api/v1/users/me/password")
@@ -0,0 +1,44 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.domain.model.LoginAttempt;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JdbcBatchLoginAttemptRecorder.class)
+class JdbcBatchLoginAttemptRecorderIntegrationTest {
+
+    @Autowired
+    private JdbcBatchLoginAttemptRecorder recorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("recorded attempts should be persisted")
+    void record_shouldPersistAttempts() {
+        UUID userId = UUID.randomUUID();
+        recorder.record(LoginAttempt.failure("john@acme.com", "acme", "10.0.0.1", "JUnit"));
+        recorder.record(LoginAttempt.failure("john@acme.com", "acme", "10.0.0.1", "JUnit"));
+        recorder.record(LoginAttempt.success(userId, "john@acme.com", "acme", "10.0.0.1", "JUnit"));
+
+        recorder.shutdown();
+
+        assertEquals(3, recorder.getWrittenCount());
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_attempts WHERE email = ? AND tenant_slug = ? AND success = false",
+                Long.class, "john@acme.com", "acme"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM login_attempts WHERE user_id = ? AND success = true", Long.class, userId));
+    }
+}
@@ -0,0 +1,149 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.domain.model.LoginAttempt;
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.JdbcBatchLoginAttemptRecorder.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcBatchLoginAttemptRecorderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcBatchLoginAttemptRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (recorder != null) {
+            recorder.shutdown();
+        }
+    }
+
+    private static LoginAttempt attempt(int i) {
+        return LoginAttempt.failure("user" + i + "@acme.com", "acme", "10.0.0.1", "JUnit");
+    }
+
+    @Test
+    @DisplayName("record should not touch the database on the calling thread")
+    void record_shouldNotWriteSynchronously() {
+        recorder = new JdbcBatchLoginAttemptRecorder(jdbcTemplate, 10, 5, 60_000, 1000, OverflowPolicy.DROP);
+
+        recorder.record(attempt(1));
+
+        verifyNoInteractions(jdbcTemplate);
+        assertEquals(1, recorder.getBufferedCount());
+    }
+
+    @Test
+    @DisplayName("shutdown should flush buffered attempts in batches")
+    @SuppressWarnings("unchecked")
+    void shutdown_shouldFlushBufferedAttemptsInBatches() {
+        recorder = new JdbcBatchLoginAttemptRecorder(jdbcTemplate, 10, 2, 60_000, 1000, OverflowPolicy.DROP);
+        List<Integer> batchSizes = new ArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    batchSizes.add(((Collection<LoginAttempt>) invocation.getArgument(1)).size());
+                    return new int[0][];
+                });
+
+        for (int i = 0; i < 5; i++) {
+            recorder.record(attempt(i));
+        }
+        recorder.shutdown();
+
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        assertEquals(5, recorder.getWrittenCount());
+        assertEquals(0, recorder.getBufferedCount());
+    }
+
+    @Test
+    @DisplayName("background writer should flush attempts within the flush interval")
+    void writer_shouldFlushWithinInterval() {
+        recorder = new JdbcBatchLoginAttemptRecorder(jdbcTemplate, 10, 100, 20, 1000, OverflowPolicy.DROP);
+        recorder.start();
+
+        recorder.record(attempt(1));
+        recorder.record(attempt(2));
+
+        verify(jdbcTemplate, timeout(2000).atLeastOnce())
+                .batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("record should drop attempts when the buffer is full and the policy is DROP")
+    void record_shouldDropAttempts_whenBufferFull() {
+        recorder = new JdbcBatchLoginAttemptRecorder(jdbcTemplate, 2, 10, 60_000, 1000, OverflowPolicy.DROP);
+
+        recorder.record(attempt(1));
+        recorder.record(attempt(2));
+        recorder.record(attempt(3));
+
+        assertEquals(2, recorder.getBufferedCount());
+        assertEquals(1, recorder.getDroppedCount());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("record should write on the calling thread when the buffer is full and the policy is CALLER_RUNS")
+    @SuppressWarnings("unchecked")
+    void record_shouldWriteSynchronously_whenBufferFullAndCallerRuns() {
+        recorder = new JdbcBatchLoginAttemptRecorder(jdbcTemplate, 1, 10, 60_000, 1000, OverflowPolicy.CALLER_RUNS);
+
+        recorder.record(attempt(1));
+        recorder.record(attempt(2));
+
+        ArgumentCaptor<Collection<LoginAttempt>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals("user2@acme.com", batch.getValue().iterator().next().getEmail());
+        assertEquals(0, recorder.getDroppedCount());
+    }
+
+    @Test
+    @DisplayName("flush should count failed batches separately from drops instead of propagating the error")
+    void flush_shouldCountFailedBatches() {
+        recorder = new JdbcBatchLoginAttemptRecorder(jdbcTemplate, 10, 10, 60_000, 1000, OverflowPolicy.DROP);
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        recorder.record(attempt(1));
+        recorder.record(attempt(2));
+
+        assertDoesNotThrow(recorder::shutdown);
+        assertEquals(2, recorder.getFailedCount());
+        assertEquals(0, recorder.getDroppedCount());
+        assertEquals(0, recorder.getWrittenCount());
+    }
+
+    @Test
+    @DisplayName("record should write on the calling thread once shutdown has drained the buffer")
+    @SuppressWarnings("unchecked")
+    void record_shouldWriteSynchronously_afterShutdown() {
+        recorder = new JdbcBatchLoginAttemptRecorder(jdbcTemplate, 10, 10, 60_000, 1000, OverflowPolicy.DROP);
+        recorder.shutdown();
+
+        recorder.record(attempt(1));
+
+        ArgumentCaptor<Collection<LoginAttempt>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batch.capture(), eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals("user1@acme.com", batch.getValue().iterator().next().getEmail());
+        assertEquals(0, recorder.getBufferedCount());
+        assertEquals(1, recorder.getWrittenCount());
+    }
+}
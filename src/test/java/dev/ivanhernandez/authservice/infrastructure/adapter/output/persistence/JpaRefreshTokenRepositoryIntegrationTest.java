@@ -0,0 +1,123 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.domain.model.RefreshToken;
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.spring.SpringDataRefreshTokenRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(JpaRefreshTokenRepository.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JpaRefreshTokenRepositoryIntegrationTest {
+
+    @Autowired
+    private JpaRefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private SpringDataRefreshTokenRepository springDataRepository;
+
+    @AfterEach
+    void tearDown() {
+        springDataRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("consume should succeed only once for the same token")
+    void consume_shouldSucceedOnlyOnce() {
+        RefreshToken token = refreshTokenRepository.save(RefreshToken.create(UUID.randomUUID(), "hash-once"));
+
+        assertTrue(refreshTokenRepository.consume(token.getId(), LocalDateTime.now()));
+        assertFalse(refreshTokenRepository.consume(token.getId(), LocalDateTime.now()));
+
+        RefreshToken stored = refreshTokenRepository.findByTokenHash("hash-once").orElseThrow();
+        assertTrue(stored.isConsumed());
+        assertEquals(token.getFamilyId(), stored.getFamilyId());
+    }
+
+    @Test
+    @DisplayName("consume should fail for revoked and expired tokens")
+    void consume_shouldFail_whenTokenRevokedOrExpired() {
+        RefreshToken revoked = refreshTokenRepository.save(RefreshToken.create(UUID.randomUUID(), "hash-revoked"));
+        refreshTokenRepository.revokeByTokenHash("hash-revoked");
+        RefreshToken expired = refreshTokenRepository.save(new RefreshToken(null, UUID.randomUUID(), "hash-expired",
+                LocalDateTime.now().minusMinutes(1), false, LocalDateTime.now().minusDays(30),
+                UUID.randomUUID(), null));
+
+        assertFalse(refreshTokenRepository.consume(revoked.getId(), LocalDateTime.now()));
+        assertFalse(refreshTokenRepository.consume(expired.getId(), LocalDateTime.now()));
+    }
+
+    @Test
+    @DisplayName("consume should let exactly one of several concurrent callers win")
+    void consume_shouldLetOneConcurrentCallerWin() throws Exception {
+        RefreshToken token = refreshTokenRepository.save(RefreshToken.create(UUID.randomUUID(), "hash-race"));
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return refreshTokenRepository.consume(token.getId(), LocalDateTime.now());
+                }));
+            }
+            start.countDown();
+
+            int winners = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) {
+                    winners++;
+                }
+            }
+            assertEquals(1, winners);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("revokeFamily should revoke every token in the family and leave other families untouched")
+    void revokeFamily_shouldRevokeWholeFamily() {
+        RefreshToken first = refreshTokenRepository.save(RefreshToken.create(UUID.randomUUID(), "hash-first"));
+        refreshTokenRepository.save(first.rotate("hash-second"));
+        RefreshToken other = refreshTokenRepository.save(RefreshToken.create(first.getUserId(), "hash-other"));
+
+        refreshTokenRepository.revokeFamily(first.getFamilyId());
+
+        assertTrue(refreshTokenRepository.findByTokenHash("hash-first").orElseThrow().isRevoked());
+        assertTrue(refreshTokenRepository.findByTokenHash("hash-second").orElseThrow().isRevoked());
+        assertFalse(refreshTokenRepository.findByTokenHash(other.getTokenHash()).orElseThrow().isRevoked());
+    }
+
+    @Test
+    @DisplayName("revokeFamily should revoke tokens issued before families existed by their id")
+    void revokeFamily_shouldRevokeLegacyTokenById() {
+        RefreshToken legacy = refreshTokenRepository.save(new RefreshToken(null, UUID.randomUUID(), "hash-legacy",
+                LocalDateTime.now().plusDays(1), false, LocalDateTime.now()));
+        assertNull(springDataRepository.findById(legacy.getId()).orElseThrow().getFamilyId());
+
+        refreshTokenRepository.revokeFamily(legacy.getId());
+
+        assertTrue(refreshTokenRepository.findByTokenHash("hash-legacy").orElseThrow().isRevoked());
+    }
+}
@@ -1,11 +1,13 @@
 package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
 
+import dev.ivanhernandez.authservice.domain.model.AuthPrincipal;
 import dev.ivanhernandez.authservice.domain.model.Role;
 import dev.ivanhernandez.authservice.domain.model.Tenant;
 import dev.ivanhernandez.authservice.domain.model.User;
 import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.entity.TenantJpaEntity;
 import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.spring.SpringDataTenantRepository;
 import dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence.spring.SpringDataUserRepository;
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.redis.InMemoryCacheInvalidationBus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,12 +19,13 @@ import org.springframework.test.context.ActiveProfiles;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
 @ActiveProfiles("test")
-@Import({JpaUserRepository.class, JpaTenantRepository.class})
+@Import({JpaUserRepository.class, JpaTenantRepository.class, TenantCache.class, InMemoryCacheInvalidationBus.class})
 class JpaUserRepositoryIntegrationTest {
 
     @Autowired
@@ -119,6 +122,136 @@ class JpaUserRepositoryIntegrationTest {
         assertEquals("slug@test.com", found.get().getEmail());
     }
 
+    @Test
+    @DisplayName("findAuthPrincipalByEmailAndTenantSlug should return credentials, tenant and all roles")
+    void findAuthPrincipalByEmailAndTenantSlug_shouldReturnPrincipal() {
+        User saved = userRepository.save(new User(
+                null,
+                tenant,
+                "principal@test.com",
+                "hashedPassword",
+                "Principal",
+                "User",
+                true,
+                true,
+                Set.of(Role.USER, Role.ADMIN),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        ));
+
+        Optional<AuthPrincipal> found =
+                userRepository.findAuthPrincipalByEmailAndTenantSlug("principal@test.com", "test-corp");
+
+        assertTrue(found.isPresent());
+        AuthPrincipal principal = found.get();
+        assertEquals(saved.getId(), principal.userId());
+        assertEquals("hashedPassword", principal.passwordHash());
+        assertTrue(principal.emailVerified());
+        assertEquals(tenant.getId(), principal.tenantId());
+        assertEquals("test-corp", principal.tenantSlug());
+        assertTrue(principal.tenantEnabled());
+        assertEquals(Set.of(Role.USER, Role.ADMIN), principal.roles());
+    }
+
+    @Test
+    @DisplayName("findAuthPrincipalById should return a principal for a user without roles")
+    void findAuthPrincipalById_shouldReturnPrincipal_whenUserHasNoRoles() {
+        User saved = userRepository.save(new User(
+                null,
+                tenant,
+                "noroles@test.com",
+                "hashedPassword",
+                "No",
+                "Roles",
+                false,
+                true,
+                Set.of(),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        ));
+
+        Optional<AuthPrincipal> found = userRepository.findAuthPrincipalById(saved.getId());
+
+        assertTrue(found.isPresent());
+        assertEquals("noroles@test.com", found.get().email());
+        assertTrue(found.get().roles().isEmpty());
+        assertTrue(userRepository.findAuthPrincipalById(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("updatePasswordHash should replace the hash only while it still matches the expected one")
+    void updatePasswordHash_shouldCompareAndSet() {
+        User saved = userRepository.save(new User(
+                null,
+                tenant,
+                "change@test.com",
+                "currentHash",
+                "Cha",
+                "Nge",
+                true,
+                true,
+                Set.of(Role.USER),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        ));
+
+        assertFalse(userRepository.updatePasswordHash(saved.getId(), "staleHash", "newHash"));
+        assertTrue(userRepository.updatePasswordHash(saved.getId(), "currentHash", "newHash"));
+
+        User reloaded = userRepository.findById(saved.getId()).orElseThrow();
+        assertEquals("newHash", reloaded.getPasswordHash());
+        assertEquals("Cha", reloaded.getFirstName());
+    }
+
+    @Test
+    @DisplayName("rehashPassword should replace only the stored hash and keep updatedAt")
+    void rehashPassword_shouldReplaceStoredHash() {
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+        User saved = userRepository.save(new User(
+                null,
+                tenant,
+                "rehash@test.com",
+                "oldHash",
+                "Re",
+                "Hash",
+                true,
+                true,
+                Set.of(Role.USER),
+                LocalDateTime.now(),
+                updatedAt
+        ));
+
+        assertTrue(userRepository.rehashPassword(saved.getId(), "oldHash", "newHash"));
+
+        User reloaded = userRepository.findById(saved.getId()).orElseThrow();
+        assertEquals("newHash", reloaded.getPasswordHash());
+        assertEquals("rehash@test.com", reloaded.getEmail());
+        assertEquals(Set.of(Role.USER), reloaded.getRoles());
+        assertEquals(updatedAt, reloaded.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("rehashPassword should skip the write when the hash changed since it was verified")
+    void rehashPassword_shouldSkip_whenHashChanged() {
+        User saved = userRepository.save(new User(
+                null,
+                tenant,
+                "rotated@test.com",
+                "rotatedHash",
+                "Rot",
+                "Ated",
+                true,
+                true,
+                Set.of(Role.USER),
+                LocalDateTime.now(),
+                LocalDateTime.now()
+        ));
+
+        assertFalse(userRepository.rehashPassword(saved.getId(), "staleHash", "upgradedHash"));
+
+        assertEquals("rotatedHash", userRepository.findById(saved.getId()).orElseThrow().getPasswordHash());
+    }
+
     @Test
     @DisplayName("existsByEmailAndTenantId should return true when exists")
     void existsByEmailAndTenantId_shouldReturnTrue_whenExists() {
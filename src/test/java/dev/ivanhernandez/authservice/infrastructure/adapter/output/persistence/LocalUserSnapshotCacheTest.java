@@ -0,0 +1,104 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.domain.model.Role;
+import dev.ivanhernandez.authservice.domain.model.Tenant;
+import dev.ivanhernandez.authservice.domain.model.User;
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.redis.InMemoryCacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalUserSnapshotCacheTest {
+
+    private InMemoryCacheInvalidationBus invalidationBus;
+    private LocalUserSnapshotCache cache;
+    private User user;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new InMemoryCacheInvalidationBus();
+        cache = new LocalUserSnapshotCache(invalidationBus, 60_000, 100);
+        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+        user = new User(UUID.randomUUID(), tenant, "john@acme.com", "hash", "John", "Doe",
+                true, true, Set.of(Role.USER), LocalDateTime.now(), LocalDateTime.now());
+        loads = new AtomicInteger();
+    }
+
+    private Optional<User> load(UUID id) {
+        loads.incrementAndGet();
+        return Optional.of(user);
+    }
+
+    @Test
+    @DisplayName("findById should load once and return independent copies afterwards")
+    void findById_shouldCacheAndReturnCopies() {
+        cache.findById(user.getId(), this::load).orElseThrow().updateProfile("Jane", "Smith");
+        User cached = cache.findById(user.getId(), this::load).orElseThrow();
+        cached.addRole(Role.ADMIN);
+
+        assertEquals(1, loads.get());
+        assertEquals("John", cached.getFirstName());
+        assertFalse(cache.findById(user.getId(), this::load).orElseThrow().hasRole(Role.ADMIN));
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("invalidate should evict the snapshot on every subscribed node")
+    void invalidate_shouldEvictOnEveryNode() {
+        LocalUserSnapshotCache otherNode = new LocalUserSnapshotCache(invalidationBus, 60_000, 100);
+        cache.findById(user.getId(), this::load);
+        otherNode.findById(user.getId(), this::load);
+
+        cache.invalidate(user.getId());
+
+        assertEquals(0, cache.size());
+        assertEquals(0, otherNode.size());
+    }
+
+    @Test
+    @DisplayName("a load racing with an invalidation should not be cached")
+    void findById_shouldNotCacheLoad_whenInvalidatedWhileLoading() {
+        cache.findById(user.getId(), id -> {
+            cache.evict(id);
+            return Optional.of(user);
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("entries should be reloaded once their TTL has passed")
+    void findById_shouldReload_whenExpired() {
+        cache = new LocalUserSnapshotCache(invalidationBus, 0, 100);
+
+        cache.findById(user.getId(), this::load);
+        cache.findById(user.getId(), this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("a tenant invalidation should evict the snapshots of that tenant's users")
+    void tenantInvalidation_shouldEvictTenantUsers() {
+        Tenant otherTenant = new Tenant(UUID.randomUUID(), "Globex", "globex", true, LocalDateTime.now());
+        User otherUser = new User(UUID.randomUUID(), otherTenant, "jane@globex.com", "hash", "Jane", "Roe",
+                true, true, Set.of(Role.USER), LocalDateTime.now(), LocalDateTime.now());
+        cache.findById(user.getId(), this::load);
+        cache.findById(otherUser.getId(), id -> Optional.of(otherUser));
+
+        invalidationBus.publish(TenantCache.CACHE_NAME, user.getTenant().getId().toString());
+
+        assertEquals(1, cache.size());
+        cache.findById(user.getId(), this::load);
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,172 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class LoginAttemptPartitionManagerIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final LocalDate today = LocalDate.now();
+    private JdbcTemplate jdbcTemplate;
+    private LoginAttemptPartitionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS login_attempts CASCADE");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS login_attempts_legacy CASCADE");
+        manager = new LoginAttemptPartitionManager(jdbcTemplate, 30, 3);
+    }
+
+    private void insertAttempt(LocalDateTime attemptedAt) {
+        jdbcTemplate.update("""
+                        INSERT INTO login_attempts (id, email, tenant_slug, ip_address, success, attempted_at)
+                        VALUES (?, ?, ?, ?, ?, ?)
+                        """,
+                UUID.randomUUID(), "john@acme.com", "acme", "10.0.0.1", false, Timestamp.valueOf(attemptedAt));
+    }
+
+    private long countAttempts() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM login_attempts", Long.class);
+    }
+
+    @Test
+    @DisplayName("initialize should create a partitioned table with daily partitions ahead of time")
+    void initialize_shouldCreatePartitionedTable() {
+        manager.initialize();
+
+        assertEquals("p", manager.tableKind("login_attempts"));
+        List<String> partitions = manager.partitionNames();
+        for (int i = 0; i <= 3; i++) {
+            assertTrue(partitions.contains(LoginAttemptPartitionManager.partitionName(today.plusDays(i))));
+        }
+        insertAttempt(LocalDateTime.now());
+        assertEquals(1, countAttempts());
+    }
+
+    @Test
+    @DisplayName("initialize should convert an existing table by attaching it as the legacy partition")
+    void initialize_shouldConvertExistingTable() {
+        jdbcTemplate.execute("""
+                CREATE TABLE login_attempts (
+                    id UUID NOT NULL PRIMARY KEY,
+                    user_id UUID,
+                    email VARCHAR(255) NOT NULL,
+                    tenant_slug VARCHAR(50) NOT NULL,
+                    ip_address VARCHAR(45) NOT NULL,
+                    user_agent VARCHAR(500),
+                    success BOOLEAN NOT NULL,
+                    attempted_at TIMESTAMP(6) NOT NULL
+                )
+                """);
+        insertAttempt(LocalDateTime.now().minusDays(10));
+        insertAttempt(LocalDateTime.now());
+
+        manager.initialize();
+
+        assertEquals("p", manager.tableKind("login_attempts"));
+        assertTrue(manager.partitionNames().contains("login_attempts_legacy"));
+        assertTrue(manager.partitionNames().contains(LoginAttemptPartitionManager.partitionName(today.plusDays(1))));
+        assertEquals(2, countAttempts());
+        insertAttempt(LocalDateTime.now());
+        assertEquals(3, countAttempts());
+    }
+
+    @Test
+    @DisplayName("ensurePartitionedTable should convert an existing table once when nodes start together")
+    void ensurePartitionedTable_shouldConvertOnce_whenNodesStartConcurrently() throws Exception {
+        jdbcTemplate.execute("""
+                CREATE TABLE login_attempts (
+                    id UUID NOT NULL PRIMARY KEY,
+                    user_id UUID,
+                    email VARCHAR(255) NOT NULL,
+                    tenant_slug VARCHAR(50) NOT NULL,
+                    ip_address VARCHAR(45) NOT NULL,
+                    user_agent VARCHAR(500),
+                    success BOOLEAN NOT NULL,
+                    attempted_at TIMESTAMP(6) NOT NULL
+                )
+                """);
+        insertAttempt(LocalDateTime.now().minusDays(1));
+
+        LoginAttemptPartitionManager other = new LoginAttemptPartitionManager(jdbcTemplate, 30, 3);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> {
+                start.await();
+                manager.ensurePartitionedTable(today);
+                return null;
+            });
+            Future<?> second = executor.submit(() -> {
+                start.await();
+                other.ensurePartitionedTable(today);
+                return null;
+            });
+            start.countDown();
+            first.get();
+            second.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals("p", manager.tableKind("login_attempts"));
+        assertEquals(List.of("login_attempts_legacy"), manager.partitionNames());
+        assertEquals(1, countAttempts());
+    }
+
+    @Test
+    @DisplayName("maintain should drop whole partitions older than the retention period")
+    void maintain_shouldDropExpiredPartitions() {
+        manager.initialize();
+        manager.createPartition(today.minusDays(40));
+        manager.createPartition(today.minusDays(10));
+        insertAttempt(today.minusDays(40).atTime(12, 0));
+        insertAttempt(today.minusDays(10).atTime(12, 0));
+
+        manager.maintain(today);
+
+        List<String> partitions = manager.partitionNames();
+        assertFalse(partitions.contains(LoginAttemptPartitionManager.partitionName(today.minusDays(40))));
+        assertTrue(partitions.contains(LoginAttemptPartitionManager.partitionName(today.minusDays(10))));
+        assertEquals(1, countAttempts());
+    }
+
+    @Test
+    @DisplayName("failed-attempt counts should only scan partitions inside the requested time range")
+    void failedAttemptCounts_shouldPruneOldPartitions() {
+        manager.initialize();
+        manager.createPartition(today.minusDays(10));
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("""
+                EXPLAIN SELECT COUNT(*) FROM login_attempts
+                WHERE email = 'john@acme.com' AND tenant_slug = 'acme' AND success = false
+                  AND attempted_at > '%s'
+                """.formatted(Timestamp.valueOf(today.atStartOfDay())), String.class));
+
+        assertTrue(plan.contains(LoginAttemptPartitionManager.partitionName(today)));
+        assertFalse(plan.contains(LoginAttemptPartitionManager.partitionName(today.minusDays(10))));
+    }
+}
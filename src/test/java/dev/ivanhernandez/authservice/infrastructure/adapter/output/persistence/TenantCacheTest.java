@@ -0,0 +1,140 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.domain.model.Tenant;
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.redis.InMemoryCacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantCacheTest {
+
+    private InMemoryCacheInvalidationBus invalidationBus;
+    private TenantCache cache;
+    private Tenant tenant;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new InMemoryCacheInvalidationBus();
+        cache = new TenantCache(invalidationBus, 60_000, 100);
+        tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+        loads = new AtomicInteger();
+    }
+
+    private Optional<Tenant> load(Object key) {
+        loads.incrementAndGet();
+        return Optional.of(tenant);
+    }
+
+    @Test
+    @DisplayName("findBySlug should load once and serve later lookups by slug and id from memory")
+    void findBySlug_shouldServeRepeatedLookupsFromMemory() {
+        cache.findBySlug("acme", this::load);
+        Optional<Tenant> bySlug = cache.findBySlug("acme", this::load);
+        Optional<Tenant> byId = cache.findById(tenant.getId(), this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals("acme", bySlug.orElseThrow().getSlug());
+        assertEquals(tenant.getId(), byId.orElseThrow().getId());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("cached tenants should be copies so callers cannot change the shared entry")
+    void findById_shouldReturnCopies() {
+        cache.findById(tenant.getId(), this::load).orElseThrow().disable();
+
+        assertTrue(cache.findById(tenant.getId(), this::load).orElseThrow().isEnabled());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("findBySlug should not cache missing tenants")
+    void findBySlug_shouldNotCacheMisses() {
+        cache.findBySlug("ghost", key -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("entries should be reloaded once their TTL has passed")
+    void findById_shouldReload_whenExpired() {
+        cache = new TenantCache(invalidationBus, 0, 100);
+
+        cache.findById(tenant.getId(), this::load);
+        cache.findById(tenant.getId(), this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidate should evict both lookups and reach every subscribed cache")
+    void invalidate_shouldEvictAcrossSubscribedCaches() {
+        TenantCache otherNode = new TenantCache(invalidationBus, 60_000, 100);
+        cache.findBySlug("acme", this::load);
+        otherNode.findBySlug("acme", this::load);
+
+        cache.invalidate(tenant.getId());
+
+        assertEquals(0, cache.size());
+        assertEquals(0, otherNode.size());
+        cache.findBySlug("acme", this::load);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidate should broadcast again after the surrounding transaction completes")
+    void invalidate_shouldBroadcastAfterTransactionCompletes() {
+        TenantCache otherNode = new TenantCache(invalidationBus, 60_000, 100);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(tenant.getId());
+            otherNode.findById(tenant.getId(), this::load);
+            assertEquals(1, otherNode.size());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, otherNode.size());
+    }
+
+    @Test
+    @DisplayName("a load racing with an invalidation should not be cached")
+    void findById_shouldNotCacheLoad_whenInvalidatedWhileLoading() {
+        cache.findById(tenant.getId(), key -> {
+            cache.evict(tenant.getId());
+            return Optional.of(tenant);
+        });
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("put should stop caching once the maximum size is reached")
+    void findById_shouldRespectMaxSize() {
+        cache = new TenantCache(invalidationBus, 60_000, 1);
+        Tenant other = new Tenant(UUID.randomUUID(), "Other", "other", true, LocalDateTime.now());
+
+        cache.findById(tenant.getId(), this::load);
+        cache.findById(other.getId(), key -> Optional.of(other));
+
+        assertEquals(1, cache.size());
+    }
+}
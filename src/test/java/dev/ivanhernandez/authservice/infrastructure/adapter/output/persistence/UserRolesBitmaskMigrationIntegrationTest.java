@@ -0,0 +1,111 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.persistence;
+
+import dev.ivanhernandez.authservice.domain.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers(disabledWithoutDocker = true)
+class UserRolesBitmaskMigrationIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private UserRolesBitmaskMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_roles, user_roles_migrated, users CASCADE");
+        jdbcTemplate.execute("CREATE TABLE users (id UUID PRIMARY KEY, email VARCHAR(255) NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE user_roles (user_id UUID NOT NULL REFERENCES users (id), role VARCHAR(255))");
+        migration = new UserRolesBitmaskMigration(jdbcTemplate);
+    }
+
+    private UUID insertUser(String email, String... roles) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO users (id, email) VALUES (?, ?)", id, email);
+        for (String role : roles) {
+            jdbcTemplate.update("INSERT INTO user_roles (user_id, role) VALUES (?, ?)", id, role);
+        }
+        return id;
+    }
+
+    private int rolesOf(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT roles FROM users WHERE id = ?", Integer.class, id);
+    }
+
+    @Test
+    @DisplayName("migrate should fold user_roles rows into the roles bitmask and retire the old table")
+    void migrate_shouldFoldRolesIntoBitmask() {
+        UUID admin = insertUser("admin@acme.com", "USER", "ADMIN");
+        UUID user = insertUser("user@acme.com", "USER");
+        UUID none = insertUser("none@acme.com");
+
+        migration.migrate();
+
+        assertEquals(Role.USER.bit() | Role.ADMIN.bit(), rolesOf(admin));
+        assertEquals(Role.USER.bit(), rolesOf(user));
+        assertEquals(0, rolesOf(none));
+        assertFalse(migration.tableExists("user_roles"));
+        assertTrue(migration.tableExists("user_roles_migrated"));
+    }
+
+    @Test
+    @DisplayName("migrate should do nothing once the old table is gone")
+    void migrate_shouldBeIdempotent() {
+        UUID user = insertUser("user@acme.com", "USER");
+        migration.migrate();
+        jdbcTemplate.update("UPDATE users SET roles = ? WHERE id = ?", Role.ADMIN.bit(), user);
+
+        migration.migrate();
+
+        assertEquals(Role.ADMIN.bit(), rolesOf(user));
+    }
+
+    @Test
+    @DisplayName("migrate should fold roles once when nodes start together")
+    void migrate_shouldMigrateOnce_whenNodesStartConcurrently() throws Exception {
+        UUID admin = insertUser("admin@acme.com", "USER", "ADMIN");
+
+        UserRolesBitmaskMigration other = new UserRolesBitmaskMigration(jdbcTemplate);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() -> {
+                start.await();
+                migration.migrate();
+                return null;
+            });
+            Future<?> second = executor.submit(() -> {
+                start.await();
+                other.migrate();
+                return null;
+            });
+            start.countDown();
+            first.get();
+            second.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(Role.USER.bit() | Role.ADMIN.bit(), rolesOf(admin));
+        assertFalse(migration.tableExists("user_roles"));
+        assertTrue(migration.tableExists("user_roles_migrated"));
+    }
+}
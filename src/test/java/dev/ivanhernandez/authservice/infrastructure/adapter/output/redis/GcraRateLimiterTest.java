@@ -0,0 +1,130 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GcraRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private GcraRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new GcraRateLimiter(clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("tryAcquire should allow a burst up to max attempts")
+    void tryAcquire_shouldAllowBurstUpToMaxAttempts() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimiter.tryAcquire("key", 5, Duration.ofMinutes(15)).allowed());
+        }
+    }
+
+    @Test
+    @DisplayName("tryAcquire should reject with retry after once burst is spent")
+    void tryAcquire_shouldRejectWithRetryAfter_whenExceeded() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("key", 5, Duration.ofMinutes(15));
+        }
+
+        RateLimitDecision decision = rateLimiter.tryAcquire("key", 5, Duration.ofMinutes(15));
+
+        assertFalse(decision.allowed());
+        assertEquals(180, decision.retryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("tryAcquire should release one permit per emission interval")
+    void tryAcquire_shouldRefillGradually() {
+        Duration window = Duration.ofMillis(500);
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("key", 5, window);
+        }
+        assertFalse(rateLimiter.isAllowed("key", 5, window));
+
+        advance(Duration.ofMillis(100));
+
+        assertTrue(rateLimiter.isAllowed("key", 5, window));
+        assertFalse(rateLimiter.isAllowed("key", 5, window));
+    }
+
+    @Test
+    @DisplayName("tryAcquire with address components should share state with the equivalent key")
+    void tryAcquire_shouldShareState_betweenKeyAndAddressComponents() {
+        RateLimitKey key = RateLimitKey.ipv4("/login", 0xCB007107);
+
+        assertTrue(rateLimiter.tryAcquire("/login", key.addressHigh(), key.addressLow(), 1, Duration.ofMinutes(1)).allowed());
+
+        assertFalse(rateLimiter.tryAcquire(key, 1, Duration.ofMinutes(1)).allowed());
+        assertTrue(rateLimiter.getTimeToReset(key) > 0);
+    }
+
+    @Test
+    @DisplayName("different keys should be independent")
+    void differentKeys_shouldBeIndependent() {
+        rateLimiter.tryAcquire("key1", 1, Duration.ofMinutes(1));
+
+        assertTrue(rateLimiter.isAllowed("key2", 1, Duration.ofMinutes(1)));
+        assertFalse(rateLimiter.isAllowed("key1", 1, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("reset should clear the key")
+    void reset_shouldClearKey() {
+        rateLimiter.tryAcquire("key", 1, Duration.ofMinutes(1));
+
+        rateLimiter.reset("key");
+
+        assertTrue(rateLimiter.isAllowed("key", 1, Duration.ofMinutes(1)));
+        assertEquals(0, rateLimiter.getTimeToReset("unknown"));
+    }
+
+    @Test
+    @DisplayName("evictIdle should remove keys whose bucket has fully refilled")
+    void evictIdle_shouldRemoveIdleKeys() {
+        rateLimiter.tryAcquire("idle", 5, Duration.ofMillis(50));
+        rateLimiter.tryAcquire("busy", 5, Duration.ofMinutes(15));
+
+        advance(Duration.ofMillis(30));
+        rateLimiter.evictIdle();
+
+        assertEquals(1, rateLimiter.size());
+        assertTrue(rateLimiter.getTimeToReset("busy") > 0);
+    }
+
+    @Test
+    @DisplayName("tryAcquire should keep the permit it took when eviction removes the entry concurrently")
+    void tryAcquire_shouldKeepPermit_whenEvictedDuringAcquire() {
+        AtomicBoolean evictOnNextRead = new AtomicBoolean();
+        GcraRateLimiter[] racing = new GcraRateLimiter[1];
+        racing[0] = new GcraRateLimiter(() -> {
+            if (evictOnNextRead.getAndSet(false)) {
+                racing[0].evictIdle();
+            }
+            return clock.get();
+        });
+        racing[0].tryAcquire("key", 1, Duration.ofSeconds(10));
+        advance(Duration.ofSeconds(20));
+
+        evictOnNextRead.set(true);
+        assertTrue(racing[0].tryAcquire("key", 1, Duration.ofSeconds(10)).allowed());
+
+        assertEquals(1, racing[0].size());
+        assertFalse(racing[0].tryAcquire("key", 1, Duration.ofSeconds(10)).allowed());
+    }
+}
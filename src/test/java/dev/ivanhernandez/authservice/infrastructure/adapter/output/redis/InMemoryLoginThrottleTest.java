@@ -0,0 +1,97 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.infrastructure.config.LoginThrottleConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryLoginThrottleTest {
+
+    private LoginThrottleConfig config;
+    private InMemoryLoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        config = new LoginThrottleConfig();
+        config.setWindowSeconds(10_000_000_000L);
+        config.setAccountThreshold(3);
+        config.setIpThreshold(5);
+        config.setBaseLockoutMs(1000);
+        config.setMaxLockoutMs(60_000);
+        throttle = new InMemoryLoginThrottle(config);
+    }
+
+    private void fail(String email, String ip, int times) {
+        for (int i = 0; i < times; i++) {
+            throttle.recordFailure("acme", email, ip);
+        }
+    }
+
+    @Test
+    @DisplayName("check should allow attempts below the account threshold")
+    void check_shouldAllow_belowThreshold() {
+        fail("john@acme.com", "10.0.0.1", 2);
+
+        assertTrue(throttle.check("acme", "john@acme.com", "10.0.0.1").allowed());
+    }
+
+    @Test
+    @DisplayName("check should lock the account once the threshold is reached")
+    void check_shouldLockAccount_atThreshold() {
+        fail("john@acme.com", "10.0.0.1", 3);
+
+        RateLimitDecision decision = throttle.check("acme", "John@Acme.com", "10.0.0.2");
+
+        assertFalse(decision.allowed());
+        assertEquals(1, decision.retryAfterSeconds());
+        assertTrue(throttle.check("other", "john@acme.com", "10.0.0.2").allowed());
+    }
+
+    @Test
+    @DisplayName("check should double the lockout with every failure past the threshold")
+    void check_shouldDoubleLockout_perExtraFailure() {
+        fail("john@acme.com", "10.0.0.1", 5);
+
+        RateLimitDecision decision = throttle.check("acme", "john@acme.com", "10.0.0.1");
+
+        assertFalse(decision.allowed());
+        assertEquals(4, decision.retryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("check should lock a client IP that fails across many accounts")
+    void check_shouldLockIp_acrossAccounts() {
+        for (int i = 0; i < 5; i++) {
+            throttle.recordFailure("acme", "user" + i + "@acme.com", "10.0.0.1");
+        }
+
+        assertFalse(throttle.check("acme", "fresh@acme.com", "10.0.0.1").allowed());
+        assertTrue(throttle.check("acme", "fresh@acme.com", "10.0.0.2").allowed());
+    }
+
+    @Test
+    @DisplayName("recordSuccess should clear the account lockout but keep the IP counter")
+    void recordSuccess_shouldClearAccountCounter() {
+        fail("john@acme.com", "10.0.0.1", 3);
+
+        throttle.recordSuccess("acme", "john@acme.com");
+
+        assertTrue(throttle.check("acme", "john@acme.com", "10.0.0.1").allowed());
+        fail("jane@acme.com", "10.0.0.1", 2);
+        assertFalse(throttle.check("acme", "john@acme.com", "10.0.0.1").allowed());
+    }
+
+    @Test
+    @DisplayName("lockoutMs should grow exponentially and stop at the maximum")
+    void lockoutMs_shouldGrowExponentiallyUpToMaximum() {
+        assertEquals(0, config.lockoutMs(2, 3));
+        assertEquals(1000, config.lockoutMs(3, 3));
+        assertEquals(2000, config.lockoutMs(4, 3));
+        assertEquals(32_000, config.lockoutMs(8, 3));
+        assertEquals(60_000, config.lockoutMs(9, 3));
+        assertEquals(60_000, config.lockoutMs(Long.MAX_VALUE, 3));
+    }
+}
@@ -96,4 +96,17 @@ class InMemoryRateLimiterTest {
         assertTrue(rateLimiter.isAllowed(key2, maxAttempts, window));
         assertFalse(rateLimiter.isAllowed(key1, maxAttempts, window));
     }
+
+    @Test
+    @DisplayName("evictExpired should drop keys whose window has passed")
+    void evictExpired_shouldDropExpiredKeys() throws InterruptedException {
+        rateLimiter.isAllowed("expired", 2, Duration.ofMillis(10));
+        rateLimiter.isAllowed("active", 2, Duration.ofMinutes(15));
+
+        Thread.sleep(30);
+        rateLimiter.evictExpired();
+
+        assertEquals(0, rateLimiter.getTimeToReset("expired"));
+        assertTrue(rateLimiter.getTimeToReset("active") > 0);
+    }
 }
@@ -4,16 +4,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InMemoryTokenBlacklistTest {
 
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
     private InMemoryTokenBlacklist tokenBlacklist;
 
     @BeforeEach
     void setUp() {
-        tokenBlacklist = new InMemoryTokenBlacklist();
+        tokenBlacklist = new InMemoryTokenBlacklist(
+                new RevocationBloomFilter(1000, 0.01, 60000, 900000, clock::get), clock::get);
     }
 
     @Test
@@ -53,4 +58,43 @@ class InMemoryTokenBlacklistTest {
         assertTrue(tokenBlacklist.isBlacklisted(token1));
         assertFalse(tokenBlacklist.isBlacklisted(token2));
     }
+
+    @Test
+    @DisplayName("sweep should remove expired tokens and keep live ones")
+    void sweep_shouldRemoveOnlyExpiredTokens() {
+        tokenBlacklist.blacklist("short-lived", 1);
+        tokenBlacklist.blacklist("long-lived", 3600);
+
+        clock.addAndGet(2100);
+        tokenBlacklist.sweep();
+
+        assertEquals(1, tokenBlacklist.size());
+        assertFalse(tokenBlacklist.isBlacklisted("short-lived"));
+        assertTrue(tokenBlacklist.isBlacklisted("long-lived"));
+    }
+
+    @Test
+    @DisplayName("sweep should keep a token that was blacklisted again with a later expiry")
+    void sweep_shouldKeepRenewedToken() {
+        tokenBlacklist.blacklist("token", 1);
+        tokenBlacklist.blacklist("token", 3600);
+
+        clock.addAndGet(2100);
+        tokenBlacklist.sweep();
+
+        assertTrue(tokenBlacklist.isBlacklisted("token"));
+    }
+
+    @Test
+    @DisplayName("blacklist should not scan existing entries")
+    void blacklist_shouldHandleManyTokens() {
+        for (int i = 0; i < 50000; i++) {
+            tokenBlacklist.blacklist("token-" + i, 3600);
+        }
+
+        tokenBlacklist.sweep();
+
+        assertEquals(50000, tokenBlacklist.size());
+        assertTrue(tokenBlacklist.isBlacklisted("token-49999"));
+    }
 }
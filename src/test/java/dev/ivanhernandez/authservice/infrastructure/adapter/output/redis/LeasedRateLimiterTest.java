@@ -0,0 +1,164 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LeasedRateLimiterTest {
+
+    private static final RateLimitKey KEY = RateLimitKey.ipv4("/api/v1/auth/login", 0x01020304);
+    private static final Duration WINDOW = Duration.ofMinutes(1);
+
+    @Mock
+    private RedisRateLimiter redisRateLimiter;
+
+    private LeasedRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new LeasedRateLimiter(redisRateLimiter, Runnable::run, 0.1, 1, 20, 60000);
+    }
+
+    @Test
+    @DisplayName("tryAcquire should spend leased permits locally")
+    void tryAcquire_shouldSpendLeasedPermitsLocally() {
+        when(redisRateLimiter.leasePermits(KEY, 100, WINDOW, 10))
+                .thenReturn(new RedisRateLimiter.PermitGrant(10, 0));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(rateLimiter.tryAcquire(KEY, 100, WINDOW).allowed());
+        }
+
+        verify(redisRateLimiter, times(1)).leasePermits(KEY, 100, WINDOW, 10);
+    }
+
+    @Test
+    @DisplayName("tryAcquire should renew the lease before it runs out")
+    void tryAcquire_shouldRenewLease_whenHalfSpent() {
+        when(redisRateLimiter.leasePermits(KEY, 100, WINDOW, 10))
+                .thenReturn(new RedisRateLimiter.PermitGrant(10, 0));
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(rateLimiter.tryAcquire(KEY, 100, WINDOW).allowed());
+        }
+
+        verify(redisRateLimiter, times(3)).leasePermits(KEY, 100, WINDOW, 10);
+    }
+
+    @Test
+    @DisplayName("tryAcquire should cache a rejection until the retry time")
+    void tryAcquire_shouldCacheRejection() {
+        when(redisRateLimiter.leasePermits(KEY, 100, WINDOW, 10))
+                .thenReturn(new RedisRateLimiter.PermitGrant(0, 30000));
+
+        RateLimitDecision first = rateLimiter.tryAcquire(KEY, 100, WINDOW);
+        RateLimitDecision second = rateLimiter.tryAcquire(KEY, 100, WINDOW);
+
+        assertFalse(first.allowed());
+        assertEquals(30, first.retryAfterSeconds());
+        assertFalse(second.allowed());
+        assertTrue(second.retryAfterSeconds() <= 30);
+        verify(redisRateLimiter, times(1)).leasePermits(KEY, 100, WINDOW, 10);
+    }
+
+    @Test
+    @DisplayName("tryAcquire should fall back to the shared window when a lease would hold a single permit")
+    void tryAcquire_shouldFallBackToWindow_whenLeaseTooSmall() {
+        when(redisRateLimiter.tryAcquire(KEY, 5, WINDOW)).thenReturn(RateLimitDecision.allow());
+
+        assertTrue(rateLimiter.tryAcquire(KEY, 5, WINDOW).allowed());
+
+        verify(redisRateLimiter, never()).leasePermits(eq(KEY), anyInt(), eq(WINDOW), anyInt());
+        assertEquals(0, rateLimiter.size());
+    }
+
+    @Test
+    @DisplayName("tryAcquire should spend remaining permits before honouring a renewal rejection")
+    void tryAcquire_shouldSpendRemainingPermits_whenRenewalRejected() {
+        when(redisRateLimiter.leasePermits(KEY, 40, WINDOW, 4))
+                .thenReturn(new RedisRateLimiter.PermitGrant(4, 0))
+                .thenReturn(new RedisRateLimiter.PermitGrant(0, 10000));
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(rateLimiter.tryAcquire(KEY, 40, WINDOW).allowed());
+        }
+        RateLimitDecision decision = rateLimiter.tryAcquire(KEY, 40, WINDOW);
+
+        assertFalse(decision.allowed());
+        assertEquals(10, decision.retryAfterSeconds());
+        verify(redisRateLimiter, times(2)).leasePermits(KEY, 40, WINDOW, 4);
+    }
+
+    @Test
+    @DisplayName("releaseExpired should return unspent permits")
+    void releaseExpired_shouldReturnUnspentPermits() {
+        rateLimiter = new LeasedRateLimiter(redisRateLimiter, Runnable::run, 0.1, 1, 20, 0);
+        when(redisRateLimiter.leasePermits(KEY, 100, WINDOW, 10))
+                .thenReturn(new RedisRateLimiter.PermitGrant(10, 0));
+
+        rateLimiter.tryAcquire(KEY, 100, WINDOW);
+        rateLimiter.releaseExpired();
+
+        verify(redisRateLimiter).returnPermits(KEY, 9);
+        assertEquals(0, rateLimiter.size());
+    }
+
+    @Test
+    @DisplayName("releaseExpired should keep leases that are still valid")
+    void releaseExpired_shouldKeepValidLeases() {
+        when(redisRateLimiter.leasePermits(KEY, 100, WINDOW, 10))
+                .thenReturn(new RedisRateLimiter.PermitGrant(10, 0));
+
+        rateLimiter.tryAcquire(KEY, 100, WINDOW);
+        rateLimiter.releaseExpired();
+
+        verify(redisRateLimiter, never()).returnPermits(eq(KEY), anyInt());
+        assertEquals(1, rateLimiter.size());
+    }
+
+    @Test
+    @DisplayName("leaseSize should scale with the limit within the configured bounds")
+    void leaseSize_shouldScaleWithLimit() {
+        assertEquals(0, rateLimiter.leaseSize(5));
+        assertEquals(10, rateLimiter.leaseSize(100));
+        assertEquals(20, rateLimiter.leaseSize(10000));
+    }
+
+    @Test
+    @DisplayName("leaseSize should split the slack budget across nodes")
+    void leaseSize_shouldSplitSlackAcrossNodes() {
+        LeasedRateLimiter clustered = new LeasedRateLimiter(redisRateLimiter, Runnable::run, 0.1, 4, 20, 60000);
+
+        assertEquals(2, clustered.leaseSize(100));
+        assertEquals(1, clustered.leaseSize(40));
+    }
+
+    @Test
+    @DisplayName("reset should drop the local lease and the shared counter")
+    void reset_shouldDropLeaseAndSharedCounter() {
+        when(redisRateLimiter.leasePermits(KEY, 100, WINDOW, 10))
+                .thenReturn(new RedisRateLimiter.PermitGrant(10, 0));
+        rateLimiter.tryAcquire(KEY, 100, WINDOW);
+
+        rateLimiter.reset(KEY);
+
+        assertEquals(0, rateLimiter.size());
+        verify(redisRateLimiter).reset(KEY);
+    }
+}
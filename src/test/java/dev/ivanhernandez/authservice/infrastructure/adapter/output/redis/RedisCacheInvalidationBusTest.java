@@ -0,0 +1,77 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisCacheInvalidationBusTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RedisCacheInvalidationBus bus;
+    private List<String> received;
+
+    @BeforeEach
+    void setUp() {
+        bus = new RedisCacheInvalidationBus(redisTemplate);
+        received = new ArrayList<>();
+        bus.subscribe("tenants", received::add);
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(
+                RedisCacheInvalidationBus.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("publish should evict locally and broadcast the key to other nodes")
+    void publish_shouldDispatchLocallyAndBroadcast() {
+        bus.publish("tenants", "tenant-1");
+
+        assertEquals(List.of("tenant-1"), received);
+        verify(redisTemplate).convertAndSend(RedisCacheInvalidationBus.CHANNEL, "tenants:tenant-1");
+    }
+
+    @Test
+    @DisplayName("publish should still evict locally when Redis is unavailable")
+    void publish_shouldDispatchLocally_whenRedisUnavailable() {
+        when(redisTemplate.convertAndSend(anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        bus.publish("tenants", "tenant-1");
+
+        assertEquals(List.of("tenant-1"), received);
+    }
+
+    @Test
+    @DisplayName("onMessage should route events to listeners of the named cache only")
+    void onMessage_shouldRouteByCacheName() {
+        List<String> profiles = new ArrayList<>();
+        bus.subscribe("profiles", profiles::add);
+
+        bus.onMessage(message("tenants:tenant-2"), null);
+        bus.onMessage(message("malformed"), null);
+
+        assertEquals(List.of("tenant-2"), received);
+        assertTrue(profiles.isEmpty());
+    }
+}
@@ -0,0 +1,84 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.infrastructure.config.LoginThrottleConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisLoginThrottleTest {
+
+    private static final String ACCOUNT_KEY = "login_throttle:account:acme:john@acme.com";
+    private static final String IP_KEY = "login_throttle:ip:10.0.0.1";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RedisLoginThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        throttle = new RedisLoginThrottle(redisTemplate, new LoginThrottleConfig());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubScript(String key, long remainingMs) {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(key)), any(), any(), any(), any(), any()))
+                .thenReturn(remainingMs);
+    }
+
+    @Test
+    @DisplayName("check should allow when neither the account nor the IP is locked")
+    void check_shouldAllow_whenNotLocked() {
+        stubScript(ACCOUNT_KEY, 0);
+        stubScript(IP_KEY, 0);
+
+        assertTrue(throttle.check("acme", "John@Acme.com", "10.0.0.1").allowed());
+    }
+
+    @Test
+    @DisplayName("check should reject with the longest remaining lockout rounded up to seconds")
+    void check_shouldRejectWithLongestLockout() {
+        stubScript(ACCOUNT_KEY, 1500);
+        stubScript(IP_KEY, 4200);
+
+        RateLimitDecision decision = throttle.check("acme", "john@acme.com", "10.0.0.1");
+
+        assertFalse(decision.allowed());
+        assertEquals(5, decision.retryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("recordFailure should count the failure on both the account and the IP")
+    @SuppressWarnings("unchecked")
+    void recordFailure_shouldCountAccountAndIp() {
+        throttle.recordFailure("acme", "john@acme.com", "10.0.0.1");
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(ACCOUNT_KEY)),
+                eq("900000"), eq("1"), eq("5"), eq("1000"), eq("900000"));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(IP_KEY)),
+                eq("900000"), eq("1"), eq("20"), eq("1000"), eq("900000"));
+    }
+
+    @Test
+    @DisplayName("recordSuccess should delete the account counter")
+    void recordSuccess_shouldDeleteAccountCounter() {
+        throttle.recordSuccess("acme", "john@acme.com");
+
+        verify(redisTemplate).delete(ACCOUNT_KEY);
+    }
+}
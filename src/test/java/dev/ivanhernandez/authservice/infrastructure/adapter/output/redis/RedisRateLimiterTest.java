@@ -0,0 +1,126 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import dev.ivanhernandez.authservice.domain.model.RateLimitDecision;
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisRateLimiterTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private RedisRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RedisRateLimiter(redisTemplate);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubScript(List<Long> result) {
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(), any(), any()))
+                .thenReturn(result);
+    }
+
+    @Test
+    @DisplayName("tryAcquire should run the sliding window script in a single call")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_shouldExecuteScriptOnce() {
+        stubScript(List.of(1L, 0L));
+
+        RateLimitDecision decision = rateLimiter.tryAcquire("/api/v1/auth/login:1.2.3.4", 5, Duration.ofMinutes(15));
+
+        assertTrue(decision.allowed());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("rate_limit:/api/v1/auth/login:1.2.3.4")),
+                eq("5"), eq("900000"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("tryAcquire should key IPv4 clients by dotted address")
+    @SuppressWarnings("unchecked")
+    void tryAcquire_shouldFormatIpv4Key() {
+        stubScript(List.of(1L, 0L));
+
+        rateLimiter.tryAcquire(RateLimitKey.ipv4("/api/v1/auth/login", 0x01020304), 5, Duration.ofMinutes(15));
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("rate_limit:/api/v1/auth/login:1.2.3.4")),
+                eq("5"), eq("900000"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("tryAcquire should return retry after rounded up to seconds when rejected")
+    void tryAcquire_shouldReturnRetryAfter_whenRejected() {
+        stubScript(List.of(0L, 72001L));
+
+        RateLimitDecision decision = rateLimiter.tryAcquire("key", 5, Duration.ofMinutes(1));
+
+        assertFalse(decision.allowed());
+        assertEquals(73, decision.retryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("getTimeToReset should peek using the stored limit without consuming")
+    @SuppressWarnings("unchecked")
+    void getTimeToReset_shouldPeekWithoutConsuming() {
+        stubScript(List.of(0L, 5000L));
+
+        assertEquals(5, rateLimiter.getTimeToReset("key"));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("rate_limit:key")), eq(""), eq(""), eq("0"));
+    }
+
+    @Test
+    @DisplayName("getTimeToReset should return zero when key is not limited")
+    void getTimeToReset_shouldReturnZero_whenAllowed() {
+        stubScript(List.of(1L, 0L));
+
+        assertEquals(0, rateLimiter.getTimeToReset("key"));
+    }
+
+    @Test
+    @DisplayName("leasePermits should request a partial grant and return granted permits")
+    @SuppressWarnings("unchecked")
+    void leasePermits_shouldReturnGrantedPermits() {
+        when(redisTemplate.execute(any(RedisScript.class), any(List.class), any(), any(), any(), any()))
+                .thenReturn(List.of(3L, 0L));
+
+        RedisRateLimiter.PermitGrant grant = rateLimiter.leasePermits(RateLimitKey.of("key"), 10, Duration.ofMinutes(1), 4);
+
+        assertEquals(3, grant.granted());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("rate_limit:key")),
+                eq("10"), eq("60000"), eq("4"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("returnPermits should run the script with a negative cost")
+    @SuppressWarnings("unchecked")
+    void returnPermits_shouldRefundWithNegativeCost() {
+        rateLimiter.returnPermits(RateLimitKey.of("key"), 3);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("rate_limit:key")), eq(""), eq(""), eq("-3"));
+    }
+
+    @Test
+    @DisplayName("reset should delete the limiter key")
+    void reset_shouldDeleteKey() {
+        rateLimiter.reset("key");
+
+        verify(redisTemplate).delete("rate_limit:key");
+    }
+}
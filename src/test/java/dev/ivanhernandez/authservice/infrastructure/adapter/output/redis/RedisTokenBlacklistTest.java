@@ -0,0 +1,134 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTokenBlacklistTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private RedisTokenBlacklist tokenBlacklist;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklist = new RedisTokenBlacklist(redisTemplate, new RevocationBloomFilter(1000, 0.01, 60000, 900000));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubScan(List<String> keys, List<Object> ttls) {
+        Cursor<String> cursor = mock(Cursor.class);
+        var iterator = keys.iterator();
+        when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        if (!keys.isEmpty()) {
+            when(cursor.next()).thenAnswer(invocation -> iterator.next());
+            when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(ttls);
+        }
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
+
+    private DefaultMessage event(String body) {
+        return new DefaultMessage(
+                RedisTokenBlacklist.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    @Test
+    @DisplayName("isBlacklisted should fall back to Redis before initial sync")
+    void isBlacklisted_shouldQueryRedis_beforeSync() {
+        when(redisTemplate.hasKey("token_blacklist:jti-1")).thenReturn(true);
+
+        assertTrue(tokenBlacklist.isBlacklisted("jti-1"));
+    }
+
+    @Test
+    @DisplayName("resync should load revoked tokens from Redis and serve lookups locally")
+    void resync_shouldLoadRevokedTokens() {
+        stubScan(List.of("token_blacklist:jti-1", "token_blacklist:jti-2"), List.of(60000L, -2L));
+
+        tokenBlacklist.resync();
+
+        assertTrue(tokenBlacklist.isBlacklisted("jti-1"));
+        assertFalse(tokenBlacklist.isBlacklisted("jti-2"));
+        assertFalse(tokenBlacklist.isBlacklisted("jti-3"));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("blacklist should store token in Redis and publish revocation event")
+    void blacklist_shouldStoreAndPublish() {
+        stubScan(List.of(), List.of());
+        tokenBlacklist.resync();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        tokenBlacklist.blacklist("jti-1", 300);
+
+        verify(valueOperations).set("token_blacklist:jti-1", "1", 300, TimeUnit.SECONDS);
+        verify(redisTemplate).convertAndSend(eq(RedisTokenBlacklist.CHANNEL), endsWith(":jti-1"));
+        assertTrue(tokenBlacklist.isBlacklisted("jti-1"));
+    }
+
+    @Test
+    @DisplayName("onMessage should apply revocations published by other nodes")
+    void onMessage_shouldRevokeToken() {
+        stubScan(List.of(), List.of());
+        tokenBlacklist.resync();
+
+        tokenBlacklist.onMessage(event((System.currentTimeMillis() + 60000) + ":jti-remote"), null);
+
+        assertTrue(tokenBlacklist.isBlacklisted("jti-remote"));
+    }
+
+    @Test
+    @DisplayName("onMessage should ignore already expired revocations")
+    void onMessage_shouldIgnoreExpiredRevocation() {
+        stubScan(List.of(), List.of());
+        tokenBlacklist.resync();
+
+        tokenBlacklist.onMessage(event((System.currentTimeMillis() - 1000) + ":jti-old"), null);
+
+        assertFalse(tokenBlacklist.isBlacklisted("jti-old"));
+    }
+
+    @Test
+    @DisplayName("onMessage should ignore malformed events")
+    void onMessage_shouldIgnoreMalformedEvent() {
+        stubScan(List.of(), List.of());
+        tokenBlacklist.resync();
+
+        tokenBlacklist.onMessage(event("garbage"), null);
+        tokenBlacklist.onMessage(event("abc:jti"), null);
+
+        assertFalse(tokenBlacklist.isBlacklisted("jti"));
+    }
+}
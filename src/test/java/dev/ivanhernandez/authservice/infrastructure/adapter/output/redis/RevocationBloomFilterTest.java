@@ -0,0 +1,84 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationBloomFilterTest {
+
+    private RevocationBloomFilter bloomFilter;
+
+    @BeforeEach
+    void setUp() {
+        bloomFilter = new RevocationBloomFilter(10000, 0.01, 60000, 900000);
+    }
+
+    @Test
+    @DisplayName("mightContain should never miss an added token")
+    void mightContain_shouldReturnTrue_forAddedTokens() {
+        long expiresAt = System.currentTimeMillis() + 600000;
+
+        for (int i = 0; i < 1000; i++) {
+            String tokenId = UUID.randomUUID().toString();
+            bloomFilter.add(tokenId, expiresAt + i * 1000L);
+            assertTrue(bloomFilter.mightContain(tokenId));
+        }
+    }
+
+    @Test
+    @DisplayName("mightContain should reject most unknown tokens")
+    void mightContain_shouldKeepFalsePositivesLow() {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.add(UUID.randomUUID().toString(), now + 1000 + i * 90L);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 250, "false positives: " + falsePositives);
+        assertTrue(bloomFilter.getExpectedFalsePositiveRate() < 0.025);
+    }
+
+    @Test
+    @DisplayName("expired buckets should drop out of the filter")
+    void mightContain_shouldReturnFalse_afterBucketExpires() {
+        AtomicLong clock = new AtomicLong(1_000_000);
+        RevocationBloomFilter shortLived = new RevocationBloomFilter(1000, 0.01, 50, 200, clock::get);
+        shortLived.add("token", clock.get() + 50);
+        assertTrue(shortLived.mightContain("token"));
+
+        clock.addAndGet(120);
+
+        assertFalse(shortLived.mightContain("token"));
+        assertEquals(0.0, shortLived.getExpectedFalsePositiveRate());
+    }
+
+    @Test
+    @DisplayName("tokens outliving the bucket ring should be retained until they expire")
+    void add_shouldRetainTokensBeyondRingSpan() {
+        RevocationBloomFilter small = new RevocationBloomFilter(1000, 0.01, 1000, 2000);
+        long now = System.currentTimeMillis();
+
+        small.add("long-lived", now + 3_600_000);
+        small.add("short-lived", now + 1500);
+
+        assertTrue(small.mightContain("long-lived"));
+        assertTrue(small.mightContain("short-lived"));
+    }
+
+    @Test
+    @DisplayName("getMemoryBytes should report allocated bit arrays")
+    void getMemoryBytes_shouldBePositive() {
+        assertTrue(bloomFilter.getMemoryBytes() > 0);
+    }
+}
@@ -0,0 +1,141 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DelegatingPasswordEncoderAdapterTest {
+
+    private PasswordHashingConfig config;
+    private PasswordHashingExecutor hashingExecutor;
+    private DelegatingPasswordEncoderAdapter passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        config = new PasswordHashingConfig();
+        config.setArgon2MemoryKib(1024);
+        config.setArgon2Iterations(1);
+        hashingExecutor = new PasswordHashingExecutor(config, new SimpleMeterRegistry());
+        passwordEncoder = new DelegatingPasswordEncoderAdapter(config, hashingExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("encode should hash password")
+    void encode_shouldHashPassword() {
+        String rawPassword = "SecurePass1!";
+
+        String encoded = passwordEncoder.encode(rawPassword);
+
+        assertNotNull(encoded);
+        assertNotEquals(rawPassword, encoded);
+        assertTrue(encoded.startsWith("$2a$"));
+    }
+
+    @Test
+    @DisplayName("encode should produce different hashes for same password")
+    void encode_shouldProduceDifferentHashes_forSamePassword() {
+        String rawPassword = "SecurePass1!";
+
+        String encoded1 = passwordEncoder.encode(rawPassword);
+        String encoded2 = passwordEncoder.encode(rawPassword);
+
+        assertNotEquals(encoded1, encoded2);
+    }
+
+    @Test
+    @DisplayName("matches should return true for matching password")
+    void matches_shouldReturnTrue_forMatchingPassword() {
+        String rawPassword = "SecurePass1!";
+        String encoded = passwordEncoder.encode(rawPassword);
+
+        boolean matches = passwordEncoder.matches(rawPassword, encoded);
+
+        assertTrue(matches);
+    }
+
+    @Test
+    @DisplayName("matches should return false for non-matching password")
+    void matches_shouldReturnFalse_forNonMatchingPassword() {
+        String rawPassword = "SecurePass1!";
+        String wrongPassword = "WrongPass1!";
+        String encoded = passwordEncoder.encode(rawPassword);
+
+        boolean matches = passwordEncoder.matches(wrongPassword, encoded);
+
+        assertFalse(matches);
+    }
+
+    @Test
+    @DisplayName("tenant-aware encode and matches should hash on the hashing pool")
+    void tenantAware_shouldEncodeAndMatch() {
+        UUID tenantId = UUID.randomUUID();
+
+        String encoded = passwordEncoder.encode(tenantId, "SecurePass1!");
+
+        assertTrue(passwordEncoder.matches(tenantId, "SecurePass1!", encoded));
+        assertFalse(passwordEncoder.matches(tenantId, "WrongPass1!", encoded));
+    }
+
+    @Test
+    @DisplayName("encode should use argon2id with the tenant parameters when configured for the tenant")
+    void encode_shouldUseArgon2id_whenConfiguredForTenant() {
+        UUID tenantId = UUID.randomUUID();
+        PasswordHashingConfig.TenantParameters parameters = new PasswordHashingConfig.TenantParameters();
+        parameters.setAlgorithm(PasswordHashingConfig.Algorithm.ARGON2ID);
+        parameters.setArgon2MemoryKib(2048);
+        config.setTenantParameters(Map.of(tenantId.toString(), parameters));
+
+        String encoded = passwordEncoder.encode(tenantId, "SecurePass1!");
+
+        assertTrue(encoded.startsWith("$argon2id$v=19$m=2048,t=1,p=1$"));
+        assertTrue(passwordEncoder.matches(tenantId, "SecurePass1!", encoded));
+        assertFalse(passwordEncoder.matches(tenantId, "WrongPass1!", encoded));
+        assertTrue(passwordEncoder.encode(UUID.randomUUID(), "SecurePass1!").startsWith("$2a$12$"));
+    }
+
+    @Test
+    @DisplayName("matches should verify hashes of any supported algorithm regardless of the current configuration")
+    void matches_shouldVerifyHashesOfAnyAlgorithm() {
+        String bcryptHash = new BCryptPasswordEncoder(4).encode("SecurePass1!");
+        String argon2Hash = new Argon2PasswordEncoder(16, 32, 1, 1024, 1).encode("SecurePass1!");
+
+        assertTrue(passwordEncoder.matches("SecurePass1!", bcryptHash));
+        assertTrue(passwordEncoder.matches("SecurePass1!", argon2Hash));
+        assertFalse(passwordEncoder.matches("SecurePass1!", "{noop}SecurePass1!"));
+        assertFalse(passwordEncoder.matches("SecurePass1!", null));
+    }
+
+    @Test
+    @DisplayName("needsRehash should detect hashes whose algorithm or cost differs from the target")
+    void needsRehash_shouldDetectOutdatedHashes() {
+        String bcrypt4 = new BCryptPasswordEncoder(4).encode("SecurePass1!");
+        String bcrypt12 = "$2a$12$" + bcrypt4.substring(7);
+        String argon2 = new Argon2PasswordEncoder(16, 32, 1, 1024, 1).encode("SecurePass1!");
+
+        assertTrue(passwordEncoder.needsRehash(null, bcrypt4));
+        assertFalse(passwordEncoder.needsRehash(null, bcrypt12));
+        assertTrue(passwordEncoder.needsRehash(null, argon2));
+
+        config.setAlgorithm(PasswordHashingConfig.Algorithm.ARGON2ID);
+        assertTrue(passwordEncoder.needsRehash(null, bcrypt12));
+        assertFalse(passwordEncoder.needsRehash(null, argon2));
+
+        config.setArgon2MemoryKib(4096);
+        assertTrue(passwordEncoder.needsRehash(null, argon2));
+    }
+}
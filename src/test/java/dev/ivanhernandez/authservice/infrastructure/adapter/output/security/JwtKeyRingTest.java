@@ -0,0 +1,166 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.domain.model.Role;
+import dev.ivanhernandez.authservice.domain.model.Tenant;
+import dev.ivanhernandez.authservice.domain.model.User;
+import dev.ivanhernandez.authservice.infrastructure.config.JwtKeyRingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyRingTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-32-characters-long-for-hmac";
+    private static final String OLD_SECRET = "previous-secret-key-that-is-at-least-32-characters-long";
+    private static final long EXPIRATION_MS = 900000L;
+
+    @TempDir
+    Path keysDirectory;
+
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtKeyRingConfig config;
+
+    @BeforeEach
+    void setUp() {
+        verifiedTokenCache = new VerifiedTokenCache(100);
+        config = new JwtKeyRingConfig();
+    }
+
+    private User createTestUser() {
+        Tenant tenant = new Tenant(UUID.randomUUID(), "ACME", "acme", true, LocalDateTime.now());
+        return new User(UUID.randomUUID(), tenant, "test@acme.com", "hashedPassword", "Test", "User",
+                true, true, Set.of(Role.USER), LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private JwtProviderImpl createProvider(JwtKeyRing keyRing) {
+        return new JwtProviderImpl(keyRing, EXPIRATION_MS, verifiedTokenCache);
+    }
+
+    private void writeKeyPair(String name, boolean withPrivateKey) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        Files.writeString(keysDirectory.resolve(name + ".pub.pem"), toPem("PUBLIC KEY", keyPair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            Files.writeString(keysDirectory.resolve(name + ".key.pem"), toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+        }
+    }
+
+    private String toPem(String type, byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    @Test
+    @DisplayName("configured key should be active when no directory is set")
+    void getActiveKey_shouldReturnConfiguredKey_byDefault() {
+        JwtSigningKey configuredKey = JwtSigningKey.hmac("HS256", SECRET);
+
+        JwtKeyRing keyRing = new JwtKeyRing(configuredKey, config, verifiedTokenCache);
+
+        assertEquals(configuredKey, keyRing.getActiveKey());
+        assertEquals(configuredKey, keyRing.findKey(configuredKey.keyId()));
+        assertNull(keyRing.findKey("unknown"));
+    }
+
+    @Test
+    @DisplayName("tokens signed with a previous secret should still verify after rotation")
+    void previousSecrets_shouldKeepOldTokensValid() {
+        JwtProviderImpl oldProvider = createProvider(
+                new JwtKeyRing(JwtSigningKey.hmac("HS256", OLD_SECRET), config, verifiedTokenCache));
+        String oldToken = oldProvider.generateAccessToken(createTestUser());
+
+        config.setPreviousSecrets(List.of(OLD_SECRET));
+        JwtKeyRing rotatedRing = new JwtKeyRing(JwtSigningKey.hmac("HS256", SECRET), config, new VerifiedTokenCache(100));
+        JwtProviderImpl rotatedProvider = new JwtProviderImpl(rotatedRing, EXPIRATION_MS, new VerifiedTokenCache(100));
+
+        assertTrue(rotatedProvider.parseAccessToken(oldToken).isPresent());
+        assertEquals(JwtSigningKey.hmac("HS256", SECRET).keyId(), rotatedRing.getActiveKey().keyId());
+    }
+
+    @Test
+    @DisplayName("directory keys should be loaded and active file should select the signing key")
+    void loadDirectory_shouldSelectActiveKey() throws Exception {
+        writeKeyPair("2024-01", true);
+        writeKeyPair("2023-12", false);
+        Files.writeString(keysDirectory.resolve("active"), "2024-01\n");
+        config.setDirectory(keysDirectory.toString());
+
+        JwtKeyRing keyRing = new JwtKeyRing(JwtSigningKey.generate("ES256"), config, verifiedTokenCache);
+
+        assertEquals("ES256", keyRing.getActiveKey().algorithm());
+        assertTrue(keyRing.getActiveKey().canSign());
+        assertEquals(3, keyRing.getKeys().size());
+        assertEquals(3, createProvider(keyRing).getPublicJwks().size());
+    }
+
+    @Test
+    @DisplayName("reload should pick up a new active key without invalidating existing tokens")
+    void reload_shouldRotateActiveKey() throws Exception {
+        writeKeyPair("first", true);
+        Files.writeString(keysDirectory.resolve("active"), "first");
+        config.setDirectory(keysDirectory.toString());
+        JwtKeyRing keyRing = new JwtKeyRing(JwtSigningKey.hmac("HS256", SECRET), config, verifiedTokenCache);
+        JwtProviderImpl provider = createProvider(keyRing);
+        String firstToken = provider.generateAccessToken(createTestUser());
+        String firstKeyId = keyRing.getActiveKey().keyId();
+
+        writeKeyPair("second", true);
+        Files.writeString(keysDirectory.resolve("active"), "second");
+        keyRing.reload();
+        verifiedTokenCache.clear();
+
+        assertNotEquals(firstKeyId, keyRing.getActiveKey().keyId());
+        assertTrue(provider.parseAccessToken(firstToken).isPresent());
+        assertTrue(provider.parseAccessToken(provider.generateAccessToken(createTestUser())).isPresent());
+    }
+
+    @Test
+    @DisplayName("reload should reject tokens of a removed key even when they were cached")
+    void reload_shouldDropRemovedKeys() throws Exception {
+        writeKeyPair("retired", true);
+        Files.writeString(keysDirectory.resolve("active"), "retired");
+        config.setDirectory(keysDirectory.toString());
+        JwtKeyRing keyRing = new JwtKeyRing(JwtSigningKey.hmac("HS256", SECRET), config, verifiedTokenCache);
+        JwtProviderImpl provider = createProvider(keyRing);
+        String token = provider.generateAccessToken(createTestUser());
+        assertTrue(provider.parseAccessToken(token).isPresent());
+
+        Files.delete(keysDirectory.resolve("active"));
+        Files.delete(keysDirectory.resolve("retired.pub.pem"));
+        Files.delete(keysDirectory.resolve("retired.key.pem"));
+        keyRing.reload();
+
+        assertTrue(provider.parseAccessToken(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("reload should keep current key ring when directory contents are invalid")
+    void reload_shouldKeepCurrentKeys_whenInvalid() throws Exception {
+        writeKeyPair("current", true);
+        Files.writeString(keysDirectory.resolve("active"), "current");
+        config.setDirectory(keysDirectory.toString());
+        JwtKeyRing keyRing = new JwtKeyRing(JwtSigningKey.hmac("HS256", SECRET), config, verifiedTokenCache);
+        JwtSigningKey activeKey = keyRing.getActiveKey();
+
+        Files.writeString(keysDirectory.resolve("active"), "missing");
+        keyRing.reload();
+
+        assertEquals(activeKey, keyRing.getActiveKey());
+    }
+}
@@ -1,13 +1,24 @@
 package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
 
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
 import dev.ivanhernandez.authservice.domain.model.Role;
 import dev.ivanhernandez.authservice.domain.model.Tenant;
 import dev.ivanhernandez.authservice.domain.model.User;
+import dev.ivanhernandez.authservice.infrastructure.config.JwtKeyRingConfig;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import javax.crypto.SecretKey;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -16,13 +27,24 @@ import static org.junit.jupiter.api.Assertions.*;
 class JwtProviderImplTest {
 
     private JwtProviderImpl jwtProvider;
+    private VerifiedTokenCache verifiedTokenCache;
 
     private static final String SECRET = "test-secret-key-must-be-at-least-32-characters-long-for-hmac";
     private static final long EXPIRATION_MS = 900000L;
 
     @BeforeEach
     void setUp() {
-        jwtProvider = new JwtProviderImpl(SECRET, EXPIRATION_MS);
+        verifiedTokenCache = new VerifiedTokenCache(100);
+        jwtProvider = new JwtProviderImpl(
+                new JwtKeyRing(JwtSigningKey.hmac("HS256", SECRET), new JwtKeyRingConfig(), verifiedTokenCache),
+                EXPIRATION_MS,
+                verifiedTokenCache
+        );
+    }
+
+    private JwtProviderImpl createProvider(JwtSigningKey signingKey, long expirationMs) {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        return new JwtProviderImpl(new JwtKeyRing(signingKey, new JwtKeyRingConfig(), cache), expirationMs, cache);
     }
 
     private User createTestUser() {
@@ -55,56 +77,74 @@ class JwtProviderImplTest {
     }
 
     @Test
-    @DisplayName("validateToken should return true for valid token")
-    void validateToken_shouldReturnTrue_forValidToken() {
+    @DisplayName("parseAccessToken should return claims for valid token")
+    void parseAccessToken_shouldReturnClaims_forValidToken() {
         User user = createTestUser();
         String token = jwtProvider.generateAccessToken(user);
 
-        boolean isValid = jwtProvider.validateToken(token);
+        Optional<AccessTokenClaims> claims = jwtProvider.parseAccessToken(token);
 
-        assertTrue(isValid);
+        assertTrue(claims.isPresent());
     }
 
     @Test
-    @DisplayName("validateToken should return false for invalid token")
-    void validateToken_shouldReturnFalse_forInvalidToken() {
-        boolean isValid = jwtProvider.validateToken("invalid.token.here");
+    @DisplayName("parseAccessToken should return empty for invalid token")
+    void parseAccessToken_shouldReturnEmpty_forInvalidToken() {
+        Optional<AccessTokenClaims> claims = jwtProvider.parseAccessToken("invalid.token.here");
 
-        assertFalse(isValid);
+        assertTrue(claims.isEmpty());
     }
 
     @Test
-    @DisplayName("validateToken should return false for tampered token")
-    void validateToken_shouldReturnFalse_forTamperedToken() {
+    @DisplayName("parseAccessToken should return empty for tampered token")
+    void parseAccessToken_shouldReturnEmpty_forTamperedToken() {
         User user = createTestUser();
         String token = jwtProvider.generateAccessToken(user);
         String tamperedToken = token.substring(0, token.length() - 5) + "XXXXX";
 
-        boolean isValid = jwtProvider.validateToken(tamperedToken);
+        Optional<AccessTokenClaims> claims = jwtProvider.parseAccessToken(tamperedToken);
 
-        assertFalse(isValid);
+        assertTrue(claims.isEmpty());
     }
 
     @Test
-    @DisplayName("getUserIdFromToken should return correct userId")
-    void getUserIdFromToken_shouldReturnCorrectUserId() {
-        User user = createTestUser();
-        String token = jwtProvider.generateAccessToken(user);
+    @DisplayName("parseAccessToken should return empty for token signed with another key")
+    void parseAccessToken_shouldReturnEmpty_forTokenSignedWithAnotherKey() {
+        JwtProviderImpl otherProvider = createProvider(
+                JwtSigningKey.hmac("HS256", "another-secret-key-that-is-also-at-least-32-characters-long"), EXPIRATION_MS);
+        String token = otherProvider.generateAccessToken(createTestUser());
 
-        String userId = jwtProvider.getUserIdFromToken(token);
+        Optional<AccessTokenClaims> claims = jwtProvider.parseAccessToken(token);
 
-        assertEquals(user.getId().toString(), userId);
+        assertTrue(claims.isEmpty());
     }
 
     @Test
-    @DisplayName("getTenantIdFromToken should return correct tenantId")
-    void getTenantIdFromToken_shouldReturnCorrectTenantId() {
+    @DisplayName("parseAccessToken should return empty for expired token")
+    void parseAccessToken_shouldReturnEmpty_forExpiredToken() {
+        JwtProviderImpl expiredProvider = createProvider(JwtSigningKey.hmac("HS256", SECRET), -1000L);
+        String token = expiredProvider.generateAccessToken(createTestUser());
+
+        Optional<AccessTokenClaims> claims = jwtProvider.parseAccessToken(token);
+
+        assertTrue(claims.isEmpty());
+    }
+
+    @Test
+    @DisplayName("parseAccessToken should expose every claim from a single parse")
+    void parseAccessToken_shouldExposeAllClaims() {
         User user = createTestUser();
         String token = jwtProvider.generateAccessToken(user);
 
-        String tenantId = jwtProvider.getTenantIdFromToken(token);
+        AccessTokenClaims claims = jwtProvider.parseAccessToken(token).orElseThrow();
 
-        assertEquals(user.getTenant().getId().toString(), tenantId);
+        assertEquals(user.getId().toString(), claims.userId());
+        assertEquals(user.getTenant().getId().toString(), claims.tenantId());
+        assertEquals(user.getTenant().getSlug(), claims.tenantSlug());
+        assertEquals(user.getEmail(), claims.email());
+        assertEquals(2, claims.roles().size());
+        assertTrue(claims.roles().contains("USER"));
+        assertTrue(claims.roles().contains("ADMIN"));
     }
 
     @Test
@@ -114,58 +154,176 @@ class JwtProviderImplTest {
     }
 
     @Test
-    @DisplayName("getRemainingExpirationSeconds should return positive value for valid token")
-    void getRemainingExpirationSeconds_shouldReturnPositiveValue_forValidToken() {
+    @DisplayName("parseAccessToken should report remaining lifetime for valid token")
+    void parseAccessToken_shouldReportRemainingLifetime_forValidToken() {
         User user = createTestUser();
         String token = jwtProvider.generateAccessToken(user);
 
-        long remainingSeconds = jwtProvider.getRemainingExpirationSeconds(token);
+        long remainingSeconds = jwtProvider.parseAccessToken(token).orElseThrow().getRemainingSeconds();
 
         assertTrue(remainingSeconds > 0);
         assertTrue(remainingSeconds <= EXPIRATION_MS / 1000);
     }
 
     @Test
-    @DisplayName("getRemainingExpirationSeconds should return zero for invalid token")
-    void getRemainingExpirationSeconds_shouldReturnZero_forInvalidToken() {
-        long remainingSeconds = jwtProvider.getRemainingExpirationSeconds("invalid.token.here");
+    @DisplayName("parseAccessToken should serve repeated token from verified cache")
+    void parseAccessToken_shouldUseCache_forRepeatedToken() {
+        String token = jwtProvider.generateAccessToken(createTestUser());
 
-        assertEquals(0, remainingSeconds);
+        AccessTokenClaims first = jwtProvider.parseAccessToken(token).orElseThrow();
+        AccessTokenClaims second = jwtProvider.parseAccessToken(token).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(1, verifiedTokenCache.getHitCount());
     }
 
     @Test
-    @DisplayName("getTenantSlugFromToken should return correct tenant slug")
-    void getTenantSlugFromToken_shouldReturnCorrectTenantSlug() {
-        User user = createTestUser();
-        String token = jwtProvider.generateAccessToken(user);
+    @DisplayName("parseAccessToken should not cache invalid token")
+    void parseAccessToken_shouldNotCache_invalidToken() {
+        jwtProvider.parseAccessToken("invalid.token.here");
 
-        String tenantSlug = jwtProvider.getTenantSlugFromToken(token);
+        assertEquals(0, verifiedTokenCache.size());
+    }
+
+    @Test
+    @DisplayName("generateAccessToken should set kid header")
+    void generateAccessToken_shouldSetKeyIdHeader() {
+        JwtSigningKey signingKey = JwtSigningKey.hmac("HS256", SECRET);
+        String token = jwtProvider.generateAccessToken(createTestUser());
 
-        assertEquals(user.getTenant().getSlug(), tenantSlug);
+        String header = new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]));
+
+        assertTrue(header.contains("\"kid\":\"" + signingKey.keyId() + "\""));
     }
 
     @Test
-    @DisplayName("getEmailFromToken should return correct email")
-    void getEmailFromToken_shouldReturnCorrectEmail() {
-        User user = createTestUser();
-        String token = jwtProvider.generateAccessToken(user);
+    @DisplayName("getPublicJwks should not expose symmetric keys")
+    void getPublicJwks_shouldBeEmpty_forSymmetricKey() {
+        assertTrue(jwtProvider.getPublicJwks().isEmpty());
+    }
+
+    @Test
+    @DisplayName("RS256 key should sign, verify and publish a JWK")
+    void rs256_shouldRoundTripAndPublishJwk() {
+        assertRoundTripAndPublishedJwk("RS256");
+    }
+
+    @Test
+    @DisplayName("ES256 key should sign, verify and publish a JWK")
+    void es256_shouldRoundTripAndPublishJwk() {
+        assertRoundTripAndPublishedJwk("ES256");
+    }
+
+    @Test
+    @DisplayName("EdDSA key should sign, verify and publish a JWK")
+    void edDsa_shouldRoundTripAndPublishJwk() {
+        assertRoundTripAndPublishedJwk("EdDSA");
+    }
 
-        String email = jwtProvider.getEmailFromToken(token);
+    private void assertRoundTripAndPublishedJwk(String algorithm) {
+        JwtSigningKey signingKey = JwtSigningKey.generate(algorithm);
+        JwtProviderImpl provider = createProvider(signingKey, EXPIRATION_MS);
+        String token = provider.generateAccessToken(createTestUser());
 
-        assertEquals(user.getEmail(), email);
+        List<Map<String, Object>> jwks = provider.getPublicJwks();
+
+        assertTrue(provider.parseAccessToken(token).isPresent());
+        assertEquals(1, jwks.size());
+        assertEquals(signingKey.keyId(), jwks.get(0).get("kid"));
+        assertEquals(algorithm, jwks.get(0).get("alg"));
+        assertEquals("sig", jwks.get(0).get("use"));
+        assertFalse(jwks.get(0).containsKey("d"));
     }
 
     @Test
-    @DisplayName("getRolesFromToken should return correct roles")
-    void getRolesFromToken_shouldReturnCorrectRoles() {
+    @DisplayName("parseAccessToken should reject token signed by another key pair")
+    void parseAccessToken_shouldReturnEmpty_forTokenSignedWithAnotherKeyPair() {
+        JwtProviderImpl provider = createProvider(JwtSigningKey.generate("ES256"), EXPIRATION_MS);
+        JwtProviderImpl otherProvider = createProvider(JwtSigningKey.generate("ES256"), EXPIRATION_MS);
+
+        String token = otherProvider.generateAccessToken(createTestUser());
+
+        assertTrue(provider.parseAccessToken(token).isEmpty());
+    }
+
+    @Test
+    @DisplayName("fromPem should load configured key pair with stable key id")
+    void fromPem_shouldLoadKeyPair() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        String privateKeyPem = toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        String publicKeyPem = toPem("PUBLIC KEY", keyPair.getPublic().getEncoded());
+
+        JwtSigningKey first = JwtSigningKey.fromPem("EdDSA", privateKeyPem, publicKeyPem);
+        JwtSigningKey second = JwtSigningKey.fromPem("EdDSA", privateKeyPem, publicKeyPem);
+
+        assertEquals(first.keyId(), second.keyId());
+        JwtProviderImpl provider = createProvider(first, EXPIRATION_MS);
+        assertTrue(provider.parseAccessToken(provider.generateAccessToken(createTestUser())).isPresent());
+    }
+
+    private String toPem(String type, byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    @Test
+    @DisplayName("generateAccessToken should issue a unique jti per token")
+    void generateAccessToken_shouldIssueUniqueTokenId() {
         User user = createTestUser();
-        String token = jwtProvider.generateAccessToken(user);
 
-        var roles = jwtProvider.getRolesFromToken(token);
+        String firstTokenId = jwtProvider.parseAccessToken(jwtProvider.generateAccessToken(user)).orElseThrow().tokenId();
+        String secondTokenId = jwtProvider.parseAccessToken(jwtProvider.generateAccessToken(user)).orElseThrow().tokenId();
+
+        assertDoesNotThrow(() -> UUID.fromString(firstTokenId));
+        assertNotEquals(firstTokenId, secondTokenId);
+    }
+
+    @Test
+    @DisplayName("parseAccessToken should derive a compact token id for tokens without jti")
+    void parseAccessToken_shouldDeriveTokenId_whenJtiMissing() {
+        JwtSigningKey signingKey = JwtSigningKey.hmac("HS256", SECRET);
+        String legacyToken = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
+                .signWith(signingKey.signingKey())
+                .compact();
+
+        String tokenId = jwtProvider.parseAccessToken(legacyToken).orElseThrow().tokenId();
+
+        assertEquals(43, tokenId.length());
+        assertEquals(tokenId, createProvider(signingKey, EXPIRATION_MS).parseAccessToken(legacyToken).orElseThrow().tokenId());
+    }
+
+    @Test
+    @DisplayName("generateAccessToken should carry roles as a compact bitmask claim")
+    void generateAccessToken_shouldCarryRolesAsBitmask() {
+        JwtSigningKey signingKey = JwtSigningKey.hmac("HS256", SECRET);
+        String token = createProvider(signingKey, EXPIRATION_MS).generateAccessToken(createTestUser());
+
+        Object roles = Jwts.parser()
+                .verifyWith((SecretKey) signingKey.verificationKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .get("roles");
+
+        assertEquals(Role.USER.bit() | Role.ADMIN.bit(), ((Number) roles).intValue());
+    }
 
-        assertNotNull(roles);
-        assertEquals(2, roles.size());
-        assertTrue(roles.contains("USER"));
-        assertTrue(roles.contains("ADMIN"));
+    @Test
+    @DisplayName("parseAccessToken should still accept tokens that list role names")
+    void parseAccessToken_shouldAcceptRoleNameList() {
+        JwtSigningKey signingKey = JwtSigningKey.hmac("HS256", SECRET);
+        String listToken = Jwts.builder()
+                .subject(UUID.randomUUID().toString())
+                .claim("roles", List.of("USER", "ADMIN"))
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION_MS))
+                .signWith(signingKey.signingKey())
+                .compact();
+
+        AccessTokenClaims claims = jwtProvider.parseAccessToken(listToken).orElseThrow();
+
+        assertEquals(List.of("USER", "ADMIN"), claims.roles());
     }
 }
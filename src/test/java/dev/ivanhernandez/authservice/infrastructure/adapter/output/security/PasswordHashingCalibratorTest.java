@@ -0,0 +1,116 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.info.Info;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingCalibratorTest {
+
+    private PasswordHashingConfig config;
+    private PasswordHashingCalibrator calibrator;
+
+    @BeforeEach
+    void setUp() {
+        config = new PasswordHashingConfig();
+        config.getCalibration().setEnabled(true);
+        config.getCalibration().setSamples(1);
+        config.getCalibration().setMinBcryptStrength(4);
+        config.getCalibration().setMaxBcryptStrength(6);
+        config.setBcryptStrength(4);
+        config.setArgon2MemoryKib(1024);
+        calibrator = new PasswordHashingCalibrator(config);
+    }
+
+    @Test
+    @DisplayName("calibrate should keep the minimum bcrypt strength when even it exceeds the target")
+    void calibrate_shouldKeepMinimumStrength_whenTargetUnreachable() {
+        config.getCalibration().setTargetMs(0);
+
+        calibrator.calibrate();
+
+        assertEquals(4, config.getBcryptStrength());
+        assertTrue(calibrator.getResult().calibrated());
+    }
+
+    @Test
+    @DisplayName("calibrate should raise bcrypt strength up to the maximum when hashing is fast enough")
+    void calibrate_shouldRaiseStrengthToMaximum_whenWithinTarget() {
+        config.getCalibration().setTargetMs(60_000);
+
+        calibrator.calibrate();
+
+        assertEquals(6, config.getBcryptStrength());
+        assertEquals(6, config.getParameters(null).bcryptStrength());
+    }
+
+    @Test
+    @DisplayName("calibrate should pick argon2 iterations within the target and maximum")
+    void calibrate_shouldPickArgon2Iterations() {
+        config.setAlgorithm(PasswordHashingConfig.Algorithm.ARGON2ID);
+        config.getCalibration().setTargetMs(60_000);
+        config.getCalibration().setMaxArgon2Iterations(3);
+
+        calibrator.calibrate();
+
+        assertEquals(3, config.getArgon2Iterations());
+        assertEquals(PasswordHashingConfig.Algorithm.ARGON2ID, calibrator.getResult().parameters().algorithm());
+    }
+
+    @Test
+    @DisplayName("calibrate should leave configured parameters untouched when disabled")
+    void calibrate_shouldLeaveParametersUntouched_whenDisabled() {
+        config.getCalibration().setEnabled(false);
+
+        calibrator.calibrate();
+
+        assertEquals(4, config.getBcryptStrength());
+        assertFalse(calibrator.getResult().calibrated());
+    }
+
+    @Test
+    @DisplayName("calibrate should never lower the configured bcrypt strength")
+    void calibrate_shouldNotLowerConfiguredBcryptStrength() {
+        config.setBcryptStrength(5);
+        config.getCalibration().setTargetMs(0);
+
+        calibrator.calibrate();
+
+        assertEquals(5, config.getBcryptStrength());
+    }
+
+    @Test
+    @DisplayName("calibrate should never lower the configured argon2 iterations")
+    void calibrate_shouldNotLowerConfiguredArgon2Iterations() {
+        config.setAlgorithm(PasswordHashingConfig.Algorithm.ARGON2ID);
+        config.setArgon2Iterations(2);
+        config.getCalibration().setTargetMs(0);
+
+        calibrator.calibrate();
+
+        assertEquals(2, config.getArgon2Iterations());
+    }
+
+    @Test
+    @DisplayName("contribute should report the selected parameters and measured time on the info endpoint")
+    @SuppressWarnings("unchecked")
+    void contribute_shouldReportSelectedParameters() {
+        config.getCalibration().setTargetMs(60_000);
+        calibrator.calibrate();
+
+        Info.Builder builder = new Info.Builder();
+        calibrator.contribute(builder);
+
+        Map<String, Object> details = (Map<String, Object>) builder.build().get("passwordHashing");
+        assertEquals(PasswordHashingConfig.Algorithm.BCRYPT, details.get("algorithm"));
+        assertEquals(6, details.get("bcryptStrength"));
+        assertEquals(true, details.get("calibrated"));
+        assertEquals(60_000L, details.get("targetMs"));
+        assertTrue(details.containsKey("measuredMs"));
+    }
+}
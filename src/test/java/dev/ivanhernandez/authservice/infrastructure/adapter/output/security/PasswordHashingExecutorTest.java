@@ -0,0 +1,180 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.domain.exception.ServerBusyException;
+import dev.ivanhernandez.authservice.infrastructure.config.PasswordHashingConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+    private final UUID tenantA = UUID.randomUUID();
+    private final UUID tenantB = UUID.randomUUID();
+    private final List<String> completed = Collections.synchronizedList(new ArrayList<>());
+    private final List<Thread> callers = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PasswordHashingConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        config = new PasswordHashingConfig();
+        config.setThreads(1);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private void start() {
+        executor = new PasswordHashingExecutor(config, meterRegistry);
+    }
+
+    private void blockWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        submit(UUID.randomUUID(), "blocker", () -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+
+    private void submit(UUID tenantId, String label, Runnable work) {
+        Thread caller = new Thread(() -> executor.execute(tenantId, () -> {
+            work.run();
+            completed.add(label);
+            return label;
+        }));
+        caller.start();
+        callers.add(caller);
+    }
+
+    private void submitAndWaitQueued(UUID tenantId, String label, int expectedQueued) throws InterruptedException {
+        submit(tenantId, label, () -> {
+        });
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getQueuedCount() < expectedQueued) {
+            assertTrue(System.nanoTime() < deadline, "task was not queued");
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void releaseAndJoin() throws InterruptedException {
+        release.countDown();
+        for (Thread caller : callers) {
+            caller.join(5000);
+        }
+    }
+
+    @Test
+    @DisplayName("execute should return the result computed on a hashing thread")
+    void execute_shouldReturnResult() {
+        start();
+
+        String threadName = executor.execute(tenantA, () -> Thread.currentThread().getName());
+
+        assertEquals("password-hash-0", threadName);
+    }
+
+    @Test
+    @DisplayName("execute should interleave tenants instead of draining one tenant's backlog first")
+    void execute_shouldInterleaveTenants() throws InterruptedException {
+        start();
+        blockWorker();
+        for (int i = 1; i <= 4; i++) {
+            submitAndWaitQueued(tenantA, "A", i);
+        }
+        submitAndWaitQueued(tenantB, "B", 5);
+
+        releaseAndJoin();
+
+        assertEquals(List.of("blocker", "A", "B", "A", "A", "A"), completed);
+    }
+
+    @Test
+    @DisplayName("execute should give weighted tenants proportionally more turns")
+    void execute_shouldHonourTenantWeights() throws InterruptedException {
+        config.setTenantWeights(Map.of(tenantB.toString(), 2));
+        start();
+        blockWorker();
+        submitAndWaitQueued(tenantA, "A", 1);
+        submitAndWaitQueued(tenantA, "A", 2);
+        submitAndWaitQueued(tenantA, "A", 3);
+        submitAndWaitQueued(tenantB, "B", 4);
+        submitAndWaitQueued(tenantB, "B", 5);
+        submitAndWaitQueued(tenantB, "B", 6);
+
+        releaseAndJoin();
+
+        assertEquals(List.of("blocker", "A", "B", "B", "A", "B", "A"), completed);
+    }
+
+    @Test
+    @DisplayName("execute should reject immediately when the tenant queue is full")
+    void execute_shouldReject_whenTenantQueueFull() throws InterruptedException {
+        config.setTenantQueueCapacity(1);
+        start();
+        blockWorker();
+        submitAndWaitQueued(tenantA, "A", 1);
+
+        assertThrows(ServerBusyException.class, () -> executor.execute(tenantA, () -> "rejected"));
+        assertEquals(1.0, meterRegistry.get("password.hash.rejected").tag("tenant", tenantA.toString()).counter().count());
+    }
+
+    @Test
+    @DisplayName("execute should give up and dequeue the task when it waits longer than the queue timeout")
+    void execute_shouldTimeOut_whenQueuedTooLong() throws InterruptedException {
+        config.setQueueTimeoutMs(50);
+        start();
+        blockWorker();
+
+        assertThrows(ServerBusyException.class, () -> executor.execute(tenantA, () -> "late"));
+        assertEquals(0, executor.getQueuedCount());
+    }
+
+    @Test
+    @DisplayName("execute should propagate exceptions thrown by the work")
+    void execute_shouldPropagateExceptions() {
+        start();
+
+        assertThrows(IllegalArgumentException.class, () -> executor.execute(tenantA, () -> {
+            throw new IllegalArgumentException("bad hash");
+        }));
+    }
+
+    @Test
+    @DisplayName("execute should record queue wait and hash time per tenant")
+    void execute_shouldRecordTimersPerTenant() {
+        start();
+
+        executor.execute(tenantA, () -> "hash");
+
+        assertEquals(1, meterRegistry.get("password.hash.queue.wait").tag("tenant", tenantA.toString()).timer().count());
+        assertEquals(1, meterRegistry.get("password.hash.duration").tag("tenant", tenantA.toString()).timer().count());
+    }
+}
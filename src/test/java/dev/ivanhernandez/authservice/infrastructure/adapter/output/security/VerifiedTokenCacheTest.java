@@ -0,0 +1,106 @@
+package dev.ivanhernandez.authservice.infrastructure.adapter.output.security;
+
+import dev.ivanhernandez.authservice.domain.model.AccessTokenClaims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private AccessTokenClaims createClaims(Instant expiresAt) {
+        return new AccessTokenClaims(
+                UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(),
+                "acme",
+                "john@acme.com",
+                List.of("USER"),
+                expiresAt
+        );
+    }
+
+    @Test
+    @DisplayName("get should return cached claims and count a hit")
+    void get_shouldReturnCachedClaims_whenPresent() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        VerifiedTokenCache.Key key = cache.keyFor("token");
+        AccessTokenClaims claims = createClaims(Instant.now().plusSeconds(60));
+
+        cache.put(key, claims);
+
+        assertSame(claims, cache.get(cache.keyFor("token")));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("get should count a miss for unknown token")
+    void get_shouldReturnNull_whenAbsent() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        assertNull(cache.get(cache.keyFor("unknown")));
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("get should evict entry once the token has expired")
+    void get_shouldEvictEntry_whenExpired() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        VerifiedTokenCache.Key key = cache.keyFor("token");
+        cache.put(key, createClaims(Instant.now().plusMillis(50)));
+
+        await(100);
+
+        assertNull(cache.get(key));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("put should not exceed max size")
+    void put_shouldNotExceedMaxSize() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+
+        cache.put(cache.keyFor("a"), createClaims(Instant.now().plusSeconds(60)));
+        cache.put(cache.keyFor("b"), createClaims(Instant.now().plusSeconds(60)));
+        cache.put(cache.keyFor("c"), createClaims(Instant.now().plusSeconds(60)));
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get(cache.keyFor("c")));
+    }
+
+    @Test
+    @DisplayName("put should make room by purging expired entries when full")
+    void put_shouldPurgeExpiredEntries_whenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(1);
+        cache.put(cache.keyFor("a"), createClaims(Instant.now().plusMillis(50)));
+
+        await(100);
+        cache.put(cache.keyFor("b"), createClaims(Instant.now().plusSeconds(60)));
+
+        assertEquals(1, cache.size());
+        assertNotNull(cache.get(cache.keyFor("b")));
+    }
+
+    @Test
+    @DisplayName("put should do nothing when cache is disabled")
+    void put_shouldDoNothing_whenDisabled() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(0);
+
+        cache.put(cache.keyFor("a"), createClaims(Instant.now().plusSeconds(60)));
+
+        assertEquals(0, cache.size());
+    }
+
+    private void await(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
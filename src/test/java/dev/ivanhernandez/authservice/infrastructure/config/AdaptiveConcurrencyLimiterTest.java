@@ -0,0 +1,91 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long BASELINE_RTT = TimeUnit.MILLISECONDS.toNanos(250);
+
+    private AdaptiveConcurrencyLimiter createLimiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 2, 64, 0.2, 1.5, 600);
+    }
+
+    private void sample(AdaptiveConcurrencyLimiter limiter, long rttNanos, int times) {
+        for (int i = 0; i < times; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(rttNanos, limiter.getLimit());
+        }
+    }
+
+    @Test
+    @DisplayName("tryAcquire should reject once in-flight requests reach the limit")
+    void tryAcquire_shouldReject_whenLimitReached() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(3);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(3, limiter.getInFlight());
+
+        limiter.onIgnore();
+
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("limit should grow while latency stays at the baseline")
+    void limit_shouldGrow_whenLatencyStable() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(8);
+
+        sample(limiter, BASELINE_RTT, 50);
+
+        assertTrue(limiter.getLimit() > 8);
+    }
+
+    @Test
+    @DisplayName("limit should shrink when latency rises above the tolerated baseline")
+    void limit_shouldShrink_whenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(32);
+        sample(limiter, BASELINE_RTT, 20);
+        int before = limiter.getLimit();
+
+        sample(limiter, BASELINE_RTT * 4, 40);
+
+        assertTrue(limiter.getLimit() < before);
+        assertTrue(limiter.getQueueDepth() > 0);
+    }
+
+    @Test
+    @DisplayName("limit should not grow when the service is not using it")
+    void limit_shouldNotGrow_whenAppLimited() {
+        AdaptiveConcurrencyLimiter limiter = createLimiter(16);
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(BASELINE_RTT, 1);
+        }
+
+        assertEquals(16, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("limit should never drop below the minimum")
+    void limit_shouldRespectMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(16, 6, 64, 0.2, 1.5, 600);
+        sample(limiter, BASELINE_RTT, 5);
+
+        for (int i = 0; i < 200; i++) {
+            if (limiter.tryAcquire()) {
+                limiter.onSuccess(BASELINE_RTT * (10 + i), limiter.getLimit());
+            }
+        }
+
+        assertEquals(6, limiter.getLimit());
+    }
+}
@@ -0,0 +1,155 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import dev.ivanhernandez.authservice.domain.model.RateLimitKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClientAddressResolverTest {
+
+    private static final String SCOPE = "/api/v1/auth/login";
+
+    private ClientAddressResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ClientAddressResolver(List.of("10.0.0.0/8", "fd00::/8"));
+    }
+
+    private MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", SCOPE);
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    @Test
+    @DisplayName("resolve should use the remote address when no proxy headers are present")
+    void resolve_shouldUseRemoteAddress() {
+        RateLimitKey key = resolver.resolve(SCOPE, request("203.0.113.7"));
+
+        assertEquals(RateLimitKey.ipv4(SCOPE, 0xCB007107), key);
+    }
+
+    @Test
+    @DisplayName("resolve should ignore X-Forwarded-For from untrusted peers")
+    void resolve_shouldIgnoreForwardedFor_whenPeerUntrusted() {
+        MockHttpServletRequest request = request("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+
+        assertEquals("/api/v1/auth/login:203.0.113.7", resolver.resolve(SCOPE, request).asString());
+    }
+
+    @Test
+    @DisplayName("resolve should take the rightmost untrusted X-Forwarded-For hop")
+    void resolve_shouldTakeRightmostUntrustedHop() {
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "1.1.1.1, 198.51.100.1, 10.0.0.1");
+
+        assertEquals("/api/v1/auth/login:198.51.100.1", resolver.resolve(SCOPE, request).asString());
+    }
+
+    @Test
+    @DisplayName("resolve should take the leftmost hop when every hop is trusted")
+    void resolve_shouldTakeLeftmostHop_whenAllTrusted() {
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "10.1.1.1,10.0.0.1");
+
+        assertEquals("/api/v1/auth/login:10.1.1.1", resolver.resolve(SCOPE, request).asString());
+    }
+
+    @Test
+    @DisplayName("resolve should stop at a malformed X-Forwarded-For hop")
+    void resolve_shouldStopAtMalformedHop() {
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Forwarded-For", "198.51.100.1, not-an-ip, 10.0.0.1");
+
+        assertEquals("/api/v1/auth/login:10.0.0.1", resolver.resolve(SCOPE, request).asString());
+    }
+
+    @Test
+    @DisplayName("resolve should use X-Real-IP from trusted peers when X-Forwarded-For is absent")
+    void resolve_shouldUseRealIp_whenPeerTrusted() {
+        MockHttpServletRequest request = request("10.0.0.2");
+        request.addHeader("X-Real-IP", "198.51.100.1");
+
+        assertEquals("/api/v1/auth/login:198.51.100.1", resolver.resolve(SCOPE, request).asString());
+    }
+
+    @Test
+    @DisplayName("resolve should parse IPv6 addresses into two longs")
+    void resolve_shouldParseIpv6() {
+        RateLimitKey key = resolver.resolve(SCOPE, request("2001:db8::8a2e:370:7334"));
+
+        assertEquals(0x20010db800000000L, key.addressHigh());
+        assertEquals(0x00008a2e03707334L, key.addressLow());
+    }
+
+    @Test
+    @DisplayName("resolve should parse bracketed IPv6 hops with ports and zones")
+    void resolve_shouldParseBracketedIpv6WithPort() {
+        MockHttpServletRequest request = request("fd00::1%eth0");
+        request.addHeader("X-Forwarded-For", "[2001:db8::1]:4711");
+
+        RateLimitKey key = resolver.resolve(SCOPE, request);
+
+        assertEquals(0x20010db800000000L, key.addressHigh());
+        assertEquals(1L, key.addressLow());
+    }
+
+    @Test
+    @DisplayName("resolve should treat IPv4-mapped IPv6 and IPv4 with a port as the same client")
+    void resolve_shouldNormalizeIpv4Forms() {
+        RateLimitKey mapped = resolver.resolve(SCOPE, request("::ffff:198.51.100.1"));
+        MockHttpServletRequest withPort = request("10.0.0.2");
+        withPort.addHeader("X-Forwarded-For", "198.51.100.1:5555");
+
+        assertEquals(mapped, resolver.resolve(SCOPE, withPort));
+        assertTrue(mapped.isIpv4());
+    }
+
+    @Test
+    @DisplayName("resolve should fall back to the raw remote address when it cannot be parsed")
+    void resolve_shouldFallBackToRawAddress_whenUnparseable() {
+        RateLimitKey key = resolver.resolve(SCOPE, request("unix-socket"));
+
+        assertFalse(key.hasAddress());
+        assertEquals("/api/v1/auth/login:unix-socket", key.asString());
+    }
+
+    @Test
+    @DisplayName("resolveAddress should return the resolved client address without a scope")
+    void resolveAddress_shouldReturnResolvedAddress() {
+        MockHttpServletRequest spoofed = request("203.0.113.7");
+        spoofed.addHeader("X-Forwarded-For", "198.51.100.1");
+        MockHttpServletRequest proxied = request("fd00::2");
+        proxied.addHeader("X-Forwarded-For", "2001:db8::1");
+
+        assertEquals("203.0.113.7", resolver.resolveAddress(spoofed));
+        assertEquals("2001:db8:0:0:0:0:0:1", resolver.resolveAddress(proxied));
+        assertEquals("unix-socket", resolver.resolveAddress(request("unix-socket")));
+    }
+
+    @Test
+    @DisplayName("isTrusted should match CIDR prefixes")
+    void isTrusted_shouldMatchCidrPrefixes() {
+        ClientAddressResolver narrow = new ClientAddressResolver(List.of("192.168.1.0/25", "2001:db8::/32"));
+
+        assertTrue(narrow.isTrusted(0, 0x0000ffffC0A8017FL));
+        assertFalse(narrow.isTrusted(0, 0x0000ffffC0A80180L));
+        assertTrue(narrow.isTrusted(0x20010db8ffff0000L, 5));
+        assertFalse(narrow.isTrusted(0x20010db900000000L, 5));
+    }
+
+    @Test
+    @DisplayName("constructor should reject malformed CIDRs")
+    void constructor_shouldRejectMalformedCidr() {
+        assertThrows(IllegalArgumentException.class, () -> new ClientAddressResolver(List.of("10.0.0.0/33")));
+        assertThrows(IllegalArgumentException.class, () -> new ClientAddressResolver(List.of("10.0.0/8")));
+        assertThrows(IllegalArgumentException.class, () -> new ClientAddressResolver(List.of("2001:db8:::/32")));
+    }
+}
@@ -0,0 +1,80 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new ConcurrencyLimitFilter(true, List.of("/api/v1/auth/login", "/api/v1/users/me/password"),
+                1, 1, 8, 0.2, 1.5, 600, 2, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    @DisplayName("should pass hashing requests through while under the limit")
+    void shouldPassThrough_whenUnderLimit() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/auth/login"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+        assertEquals(0, filter.getLimiter().getInFlight());
+    }
+
+    @Test
+    @DisplayName("should reject with 503 and Retry-After when the limit is reached")
+    void shouldReject_whenLimitReached() throws Exception {
+        assertTrue(filter.getLimiter().tryAcquire());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/users/me/password/"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(503, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Server is busy"));
+    }
+
+    @Test
+    @DisplayName("should not limit other endpoints")
+    void shouldNotLimit_otherEndpoints() throws Exception {
+        assertTrue(filter.getLimiter().tryAcquire());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/auth/introspect"), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("should expose limit, in-flight and queue depth metrics")
+    void bindTo_shouldRegisterMetrics() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        filter.bindTo(registry);
+
+        assertEquals(1.0, registry.get("auth.concurrency.limit").gauge().value());
+        assertNotNull(registry.get("auth.concurrency.in.flight").gauge());
+        assertNotNull(registry.get("auth.concurrency.queue.depth").gauge());
+        assertNotNull(registry.get("auth.concurrency.rejected").functionCounter());
+    }
+}
@@ -0,0 +1,77 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import dev.ivanhernandez.authservice.infrastructure.adapter.output.security.JwtSigningKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtKeyConfigTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-32-characters-long";
+
+    private final JwtKeyConfig config = new JwtKeyConfig();
+
+    @TempDir
+    Path keysDirectory;
+
+    @Test
+    @DisplayName("jwtSigningKey should use the shared secret for HS256")
+    void jwtSigningKey_shouldUseSecret_forHs256() {
+        JwtSigningKey key = config.jwtSigningKey("HS256", SECRET, "", "", "", false);
+
+        assertEquals(JwtSigningKey.hmac("HS256", SECRET).keyId(), key.keyId());
+    }
+
+    @Test
+    @DisplayName("jwtSigningKey should generate an ephemeral key pair when allowed")
+    void jwtSigningKey_shouldGenerateEphemeralKey_whenAllowed() {
+        assertNotNull(config.jwtSigningKey("RS256", SECRET, "", "", "", true));
+    }
+
+    @Test
+    @DisplayName("jwtSigningKey should fail when an asymmetric algorithm has no key material and ephemeral keys are disallowed")
+    void jwtSigningKey_shouldFail_whenKeyPairMissingAndEphemeralDisallowed() {
+        assertThrows(IllegalStateException.class,
+                () -> config.jwtSigningKey("RS256", SECRET, "", "", "", false));
+    }
+
+    @Test
+    @DisplayName("jwtSigningKey should use the directory's active key when ephemeral keys are disallowed")
+    void jwtSigningKey_shouldUseActiveDirectoryKey_whenEphemeralDisallowed() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = generator.generateKeyPair();
+        String privateKeyPem = toPem("PRIVATE KEY", keyPair.getPrivate().getEncoded());
+        String publicKeyPem = toPem("PUBLIC KEY", keyPair.getPublic().getEncoded());
+        Files.writeString(keysDirectory.resolve("k1.key.pem"), privateKeyPem);
+        Files.writeString(keysDirectory.resolve("k1.pub.pem"), publicKeyPem);
+        Files.writeString(keysDirectory.resolve("active"), "k1");
+
+        JwtSigningKey key = config.jwtSigningKey("ES256", SECRET, "", "", keysDirectory.toString(), false);
+
+        assertEquals(JwtSigningKey.fromPem(privateKeyPem, publicKeyPem).keyId(), key.keyId());
+        assertTrue(key.canSign());
+    }
+
+    @Test
+    @DisplayName("jwtSigningKey should fail when the key directory has no active key and ephemeral keys are disallowed")
+    void jwtSigningKey_shouldFail_whenKeyDirectoryHasNoActiveKey() {
+        assertThrows(IllegalStateException.class,
+                () -> config.jwtSigningKey("ES256", SECRET, "", "", keysDirectory.toString(), false));
+    }
+
+    private String toPem(String type, byte[] encoded) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(encoded)
+                + "\n-----END " + type + "-----\n";
+    }
+}
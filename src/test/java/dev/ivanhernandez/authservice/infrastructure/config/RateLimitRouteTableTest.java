@@ -0,0 +1,82 @@
+package dev.ivanhernandez.authservice.infrastructure.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitRouteTableTest {
+
+    private RateLimitConfig.EndpointLimit loginLimit;
+    private RateLimitConfig.EndpointLimit versionedLimit;
+    private RateLimitConfig.EndpointLimit passwordLimit;
+    private RateLimitRouteTable routeTable;
+
+    @BeforeEach
+    void setUp() {
+        loginLimit = new RateLimitConfig.EndpointLimit(5, Duration.ofMinutes(15));
+        versionedLimit = new RateLimitConfig.EndpointLimit(10, Duration.ofMinutes(15));
+        passwordLimit = new RateLimitConfig.EndpointLimit(3, Duration.ofHours(1));
+
+        Map<String, RateLimitConfig.EndpointLimit> endpoints = new LinkedHashMap<>();
+        endpoints.put("/api/**", new RateLimitConfig.EndpointLimit(100, Duration.ofMinutes(1)));
+        endpoints.put("/api/v1/auth/login", loginLimit);
+        endpoints.put("/api/{version}/auth/login", versionedLimit);
+        endpoints.put("/api/v1/auth/password/**", passwordLimit);
+        routeTable = new RateLimitRouteTable(endpoints);
+    }
+
+    @Test
+    @DisplayName("match should return the exact route")
+    void match_shouldReturnExactRoute() {
+        RateLimitRouteTable.Route route = routeTable.match("/api/v1/auth/login");
+
+        assertSame(loginLimit, route.limit());
+        assertEquals("/api/v1/auth/login", route.scope());
+    }
+
+    @Test
+    @DisplayName("match should ignore trailing slashes, duplicate slashes and path parameters")
+    void match_shouldNormalizePath() {
+        assertSame(loginLimit, routeTable.match("/api/v1/auth/login/").limit());
+        assertSame(loginLimit, routeTable.match("/api//v1/auth/login").limit());
+        assertSame(loginLimit, routeTable.match("/api/v1/auth/login;jsessionid=abc").limit());
+    }
+
+    @Test
+    @DisplayName("match should prefer the most specific pattern")
+    void match_shouldPreferMostSpecificPattern() {
+        RateLimitRouteTable.Route route = routeTable.match("/api/v2/auth/login");
+
+        assertSame(versionedLimit, route.limit());
+        assertEquals("/api/{version}/auth/login", route.scope());
+    }
+
+    @Test
+    @DisplayName("match should support prefix patterns")
+    void match_shouldSupportPrefixPatterns() {
+        assertSame(passwordLimit, routeTable.match("/api/v1/auth/password/reset").limit());
+        assertSame(passwordLimit, routeTable.match("/api/v1/auth/password/reset-request").limit());
+    }
+
+    @Test
+    @DisplayName("match should return null when no route applies")
+    void match_shouldReturnNull_whenNoRouteMatches() {
+        assertNull(new RateLimitRouteTable(Map.of("/api/v1/auth/login", loginLimit)).match("/api/v1/users/me"));
+    }
+
+    @Test
+    @DisplayName("normalize should return the same instance for normalized paths")
+    void normalize_shouldNotCopyNormalizedPaths() {
+        String path = "/api/v1/auth/login";
+
+        assertSame(path, RateLimitRouteTable.normalize(path));
+        assertEquals("/", RateLimitRouteTable.normalize("//"));
+        assertEquals("/login", RateLimitRouteTable.normalize("login"));
+    }
+}